@@ -0,0 +1,84 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder-side {@link Hypergraph}: construction through {@code addHyperedge} and neighbor lookups.
+ * Run with {@code java -jar benchmarks/target/benchmarks.jar HypergraphBenchmark -prof gc} to get allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HypergraphBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int numNodes;
+
+    @Param({SyntheticGraphs.PAIRS, SyntheticGraphs.UNIFORM, SyntheticGraphs.SKEWED})
+    public String distribution;
+
+    private List<Set<Integer>> edges;
+    private Hypergraph graph;
+    private int[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        edges = SyntheticGraphs.edgeSets(numNodes, distribution, 42);
+        graph = build();
+        SplittableRandom random = new SplittableRandom(7);
+        queries = random.ints(4096, 0, numNodes).toArray();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object addHyperedge() {
+        return build();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object freeze() {
+        return build().freeze();
+    }
+
+    @Benchmark
+    public Set<Integer> getNeighbors() {
+        return graph.getNeighbors(nextQuery());
+    }
+
+    @Benchmark
+    public int[] getNeighborArray() {
+        return graph.getNeighborArray(nextQuery());
+    }
+
+    private Hypergraph build() {
+        Hypergraph result = new Hypergraph(numNodes);
+        for (Set<Integer> edge : edges) {
+            result.addHyperedge(edge);
+        }
+        return result;
+    }
+
+    private int nextQuery() {
+        return queries[next++ & (queries.length - 1)];
+    }
+}
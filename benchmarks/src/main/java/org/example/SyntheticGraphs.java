@@ -0,0 +1,83 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic connected random hypergraphs for benchmarks. Edge {@code e} (for {@code e >= 1}) always
+ * contains node {@code e} and some node below it, which keeps the graph connected; the remaining pins are
+ * random. Edge sizes follow one of the distributions below.
+ */
+final class SyntheticGraphs {
+    static final String PAIRS = "pairs";       // every edge has 2 pins
+    static final String UNIFORM = "uniform";   // 2..8 pins, uniform
+    static final String SKEWED = "skewed";     // 2..64 pins, heavily biased towards small edges
+
+    private SyntheticGraphs() {}
+
+    /** Edge offsets and pins in CSR form: {@code result[0]} are the offsets, {@code result[1]} the pins. */
+    static int[][] generate(int numNodes, String distribution, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int numEdges = numNodes - 1;
+        int[] offsets = new int[numEdges + 1];
+        for (int e = 0; e < numEdges; e++) {
+            offsets[e + 1] = offsets[e] + Math.min(edgeSize(distribution, random), numNodes);
+        }
+
+        int[] pins = new int[offsets[numEdges]];
+        IntHashSet edgeNodes = new IntHashSet(64);
+        for (int e = 0; e < numEdges; e++) {
+            int node = e + 1;
+            int pos = offsets[e];
+            edgeNodes.clear();
+            edgeNodes.add(node);
+            pins[pos++] = node;
+            int earlier = random.nextInt(node);
+            edgeNodes.add(earlier);
+            pins[pos++] = earlier;
+            while (pos < offsets[e + 1]) {
+                int other = random.nextInt(numNodes);
+                if (edgeNodes.add(other)) {
+                    pins[pos++] = other;
+                }
+            }
+        }
+        return new int[][] {offsets, pins};
+    }
+
+    static CompactHypergraph compact(int numNodes, String distribution, long seed) {
+        int[][] csr = generate(numNodes, distribution, seed);
+        return new CompactHypergraph(numNodes, csr[0], csr[1]);
+    }
+
+    static List<Set<Integer>> edgeSets(int numNodes, String distribution, long seed) {
+        int[][] csr = generate(numNodes, distribution, seed);
+        int[] offsets = csr[0], pins = csr[1];
+        List<Set<Integer>> edges = new ArrayList<>(offsets.length - 1);
+        for (int e = 0; e + 1 < offsets.length; e++) {
+            Set<Integer> edge = new HashSet<>();
+            for (int i = offsets[e]; i < offsets[e + 1]; i++) {
+                edge.add(pins[i]);
+            }
+            edges.add(edge);
+        }
+        return edges;
+    }
+
+    private static int edgeSize(String distribution, SplittableRandom random) {
+        switch (distribution) {
+            case PAIRS:
+                return 2;
+            case UNIFORM:
+                return 2 + random.nextInt(7);
+            case SKEWED:
+                double u = random.nextDouble();
+                return 2 + (int) (62 * u * u * u);
+            default:
+                throw new IllegalArgumentException("Unknown edge size distribution: " + distribution);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frozen {@link CompactHypergraph} neighbor scans and full {@link HypergraphTraversal#traversePath} walks on
+ * graphs of 10^3 to 10^7 nodes. Full walks on the larger sizes take seconds, hence single-shot timing.
+ * Add {@code -prof gc} on the command line to report allocation rates.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class TraversalBenchmark {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int numNodes;
+
+    @Param({SyntheticGraphs.PAIRS, SyntheticGraphs.UNIFORM, SyntheticGraphs.SKEWED})
+    public String distribution;
+
+    private CompactHypergraph graph;
+    private HypergraphTraversal traversal;
+    private int[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = SyntheticGraphs.compact(numNodes, distribution, 42);
+        traversal = new HypergraphTraversal(graph);
+        SplittableRandom random = new SplittableRandom(7);
+        queries = random.ints(4096, 0, numNodes).toArray();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public int[] getNeighbors() {
+        return graph.getNeighbors(queries[next++ & (queries.length - 1)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int[] traverse() {
+        return traversal.traversePath(0);
+    }
+}
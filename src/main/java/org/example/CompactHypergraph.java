@@ -0,0 +1,105 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Frozen hypergraph in compressed sparse row form: pins of edge {@code e} are
+ * {@code edgePins[edgeOffsets[e] .. edgeOffsets[e + 1])}, sorted ascending, and edges of node {@code v}
+ * are {@code nodeEdges[nodeOffsets[v] .. nodeOffsets[v + 1])}, also ascending.
+ * <p>
+ * Instances are immutable once constructed (the arrays are owned and never written afterwards), so a single
+ * snapshot can be read by any number of threads without locking.
+ */
+final class CompactHypergraph implements HypergraphView {
+    private final int numNodes;
+    private final int[] edgeOffsets;
+    private final int[] edgePins;
+    private final int[] nodeOffsets;
+    private final int[] nodeEdges;
+
+    CompactHypergraph(int numNodes, int[] edgeOffsets, int[] edgePins) {
+        int numEdges = edgeOffsets.length - 1;
+        this.numNodes = numNodes;
+        this.edgeOffsets = edgeOffsets;
+        this.edgePins = edgePins;
+
+        int[] offsets = new int[numNodes + 1];
+        for (int e = 0; e < numEdges; e++) {
+            Arrays.sort(edgePins, edgeOffsets[e], edgeOffsets[e + 1]);
+            for (int i = edgeOffsets[e]; i < edgeOffsets[e + 1]; i++) {
+                int node = edgePins[i];
+                if (node < 0 || node >= numNodes) {
+                    throw new IllegalArgumentException("Node out of range: " + node);
+                }
+                if (i > edgeOffsets[e] && node == edgePins[i - 1]) {
+                    throw new IllegalArgumentException("Duplicate node " + node + " in hyperedge " + e);
+                }
+                offsets[node + 1]++;
+            }
+        }
+        for (int v = 0; v < numNodes; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] fill = Arrays.copyOf(offsets, numNodes);
+        int[] edges = new int[offsets[numNodes]];
+        for (int e = 0; e < numEdges; e++) {
+            for (int i = edgeOffsets[e]; i < edgeOffsets[e + 1]; i++) {
+                edges[fill[edgePins[i]]++] = e;
+            }
+        }
+        this.nodeOffsets = offsets;
+        this.nodeEdges = edges;
+    }
+
+    /** Wraps already built and validated CSR arrays; see {@link HypergraphBuilder}. */
+    CompactHypergraph(int numNodes, int[] edgeOffsets, int[] edgePins, int[] nodeOffsets, int[] nodeEdges) {
+        this.numNodes = numNodes;
+        this.edgeOffsets = edgeOffsets;
+        this.edgePins = edgePins;
+        this.nodeOffsets = nodeOffsets;
+        this.nodeEdges = nodeEdges;
+    }
+
+    @Override
+    public int getNumNodes() { return numNodes; }
+
+    @Override
+    public int getNumEdges() { return edgeOffsets.length - 1; }
+
+    public int getNumPins() { return edgePins.length; }
+
+    @Override
+    public int getEdgeSize(int edge) { return edgeOffsets[edge + 1] - edgeOffsets[edge]; }
+
+    @Override
+    public int getPin(int edge, int index) { return edgePins[edgeOffsets[edge] + index]; }
+
+    @Override
+    public int getDegree(int node) { return nodeOffsets[node + 1] - nodeOffsets[node]; }
+
+    @Override
+    public int getIncidentEdge(int node, int index) { return nodeEdges[nodeOffsets[node] + index]; }
+
+    public int[] getEdgesContaining(int node) {
+        return Arrays.copyOfRange(nodeEdges, nodeOffsets[node], nodeOffsets[node + 1]);
+    }
+
+    @Override
+    public int[] getNeighbors(int node) {
+        int total = 0;
+        for (int i = nodeOffsets[node]; i < nodeOffsets[node + 1]; i++) {
+            total += getEdgeSize(nodeEdges[i]);
+        }
+
+        int[] buffer = new int[total];
+        int pos = 0;
+        for (int i = nodeOffsets[node]; i < nodeOffsets[node + 1]; i++) {
+            int edge = nodeEdges[i];
+            int length = getEdgeSize(edge);
+            System.arraycopy(edgePins, edgeOffsets[edge], buffer, pos, length);
+            pos += length;
+        }
+        return NeighborIndex.sortedNeighbors(buffer, total, node);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example;
+
+/**
+ * One walk per connected component, indexed by component id (see {@link ConnectedComponents}); each walk starts
+ * at the lowest node of its component.
+ */
+final class ComponentTraversalResult {
+    /** Marks a jump between components in {@link #stitch()}; there is no transition across it. */
+    static final int JUMP = -1;
+
+    private final ConnectedComponents components;
+    private final TraversalResult[] results;
+
+    ComponentTraversalResult(ConnectedComponents components, TraversalResult[] results) {
+        this.components = components;
+        this.results = results;
+    }
+
+    public ConnectedComponents getComponents() { return components; }
+    public int getNumComponents() { return results.length; }
+    public TraversalResult getResult(int component) { return results[component]; }
+    public int[] getPath(int component) { return results[component].getPath(); }
+
+    public long getTotalTransitions() {
+        long total = 0;
+        for (TraversalResult result : results) {
+            total += result.getTotalTransitions();
+        }
+        return total;
+    }
+
+    public long getRepeatedTransitions() {
+        long repeated = 0;
+        for (TraversalResult result : results) {
+            repeated += result.getRepeatedTransitions();
+        }
+        return repeated;
+    }
+
+    /** Whether every component was fully covered, i.e. no walk stopped on a budget. */
+    public boolean isComplete() {
+        for (TraversalResult result : results) {
+            if (!result.isComplete()) return false;
+        }
+        return true;
+    }
+
+    /** All component paths in component order, separated by {@link #JUMP} markers. */
+    public int[] stitch() {
+        long length = Math.max(results.length - 1, 0);
+        for (TraversalResult result : results) {
+            length += result.getPath().length;
+        }
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Stitched path too long: " + length);
+        }
+
+        int[] stitched = new int[(int) length];
+        int pos = 0;
+        for (int c = 0; c < results.length; c++) {
+            if (c > 0) stitched[pos++] = JUMP;
+            int[] path = results[c].getPath();
+            System.arraycopy(path, 0, stitched, pos, path.length);
+            pos += path.length;
+        }
+        return stitched;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Connected components of a hypergraph, where two nodes are connected when they share a hyperedge. Computed with
+ * union-find over the pins of every edge: the pins are united with the edge's first pin, finds use path
+ * halving, and a union always links the larger root under the smaller one. Each root is therefore the lowest
+ * node of its component, and components are numbered in order of their lowest node whether or not the pass
+ * ran in parallel.
+ */
+final class ConnectedComponents {
+    private final int[] componentOf;
+    private final int[] sizes;
+
+    private ConnectedComponents(int[] componentOf, int[] sizes) {
+        this.componentOf = componentOf;
+        this.sizes = sizes;
+    }
+
+    /** Components of the graph's current snapshot. */
+    static ConnectedComponents compute(Hypergraph graph) {
+        return compute(graph.freeze());
+    }
+
+    static ConnectedComponents compute(HypergraphView graph) {
+        int[] parent = new int[graph.getNumNodes()];
+        for (int v = 0; v < parent.length; v++) {
+            parent[v] = v;
+        }
+        for (int e = 0; e < graph.getNumEdges(); e++) {
+            if (graph.getEdgeSize(e) == 0) continue;
+            int first = graph.getPin(e, 0);
+            for (int i = 1; i < graph.getEdgeSize(e); i++) {
+                int a = find(parent, first);
+                int b = find(parent, graph.getPin(e, i));
+                if (a < b) parent[b] = a;
+                else if (b < a) parent[a] = b;
+            }
+        }
+        for (int v = 0; v < parent.length; v++) {
+            parent[v] = parent[parent[v]]; // roots precede their members, so one hop reaches the root
+        }
+        return label(parent);
+    }
+
+    /** Like {@link #compute(HypergraphView)}, uniting edges concurrently with lock-free compare-and-set links. */
+    static ConnectedComponents compute(HypergraphView graph, ForkJoinPool pool) {
+        int numNodes = graph.getNumNodes();
+        AtomicIntegerArray parent = new AtomicIntegerArray(numNodes);
+        pool.submit(() -> IntStream.range(0, numNodes).parallel().forEach(v -> parent.set(v, v))).join();
+        pool.submit(() -> IntStream.range(0, graph.getNumEdges()).parallel().forEach(e -> {
+            if (graph.getEdgeSize(e) == 0) return;
+            int first = graph.getPin(e, 0);
+            for (int i = 1; i < graph.getEdgeSize(e); i++) {
+                union(parent, first, graph.getPin(e, i));
+            }
+        })).join();
+
+        int[] roots = new int[numNodes];
+        pool.submit(() -> IntStream.range(0, numNodes).parallel().forEach(v -> roots[v] = find(parent, v))).join();
+        return label(roots);
+    }
+
+    public int getNumNodes() { return componentOf.length; }
+    public int getNumComponents() { return sizes.length; }
+
+    public int getComponent(int node) { return componentOf[node]; }
+    public int getComponentSize(int component) { return sizes[component]; }
+
+    /** Component id of every node. Callers must not modify the array. */
+    public int[] getComponentIds() { return componentOf; }
+
+    /** Size of every component, indexed by component id. Callers must not modify the array. */
+    public int[] getComponentSizes() { return sizes; }
+
+    public boolean isConnected() { return sizes.length <= 1; }
+
+    /** Id of the component with the most nodes (the lowest id on ties), or -1 for an empty graph. */
+    public int getLargestComponent() {
+        int largest = -1;
+        for (int c = 0; c < sizes.length; c++) {
+            if (largest == -1 || sizes[c] > sizes[largest]) largest = c;
+        }
+        return largest;
+    }
+
+    /** Turns fully compressed roots into dense component ids, in place. */
+    private static ConnectedComponents label(int[] roots) {
+        int[] sizes = new int[roots.length];
+        int numComponents = 0;
+        for (int v = 0; v < roots.length; v++) {
+            int root = roots[v];
+            // The root is the lowest node of its component, so it has been relabelled already.
+            int component = root == v ? numComponents++ : roots[root];
+            roots[v] = component;
+            sizes[component]++;
+        }
+        return new ConnectedComponents(roots, Arrays.copyOf(sizes, numComponents));
+    }
+
+    private static int find(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private static int find(AtomicIntegerArray parent, int node) {
+        while (true) {
+            int p = parent.get(node);
+            if (p == node) return node;
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                parent.compareAndSet(node, p, grandparent);
+            }
+            node = grandparent;
+        }
+    }
+
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            a = find(parent, a);
+            b = find(parent, b);
+            if (a == b) return;
+            if (a > b) {
+                int swap = a;
+                a = b;
+                b = swap;
+            }
+            if (parent.compareAndSet(b, b, a)) return;
+        }
+    }
+}
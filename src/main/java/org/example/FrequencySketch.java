@@ -0,0 +1,57 @@
+package org.example;
+
+/**
+ * Count-min sketch of recent access frequencies (four rows of saturating counters). All counters are halved
+ * after a sample period so old popularity decays. Not thread-safe; {@link TraversalCache} guards it.
+ */
+final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97CB3127, 0x6F3A2E5D, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int[] table;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int expectedEntries) {
+        this.width = Integer.highestOneBit(Math.max(expectedEntries, 16) - 1) << 1;
+        this.table = new int[DEPTH * width];
+        this.sampleSize = 10 * width;
+    }
+
+    public void increment(int hash) {
+        boolean added = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int i = index(hash, row);
+            if (table[i] < MAX_COUNT) {
+                table[i]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            halve();
+        }
+    }
+
+    public int frequency(int hash) {
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, table[index(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void halve() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] >>>= 1;
+        }
+        additions >>>= 1;
+    }
+
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return row * width + (h & (width - 1));
+    }
+}
@@ -0,0 +1,36 @@
+package org.example;
+
+/**
+ * Nodes whose neighborhoods changed in a batch of {@link Hypergraph} mutations: every pin of an added, removed
+ * or updated hyperedge, plus added nodes. Fill it with {@link Hypergraph#recordChanges(GraphDelta)} and pass it
+ * to {@link HypergraphTraversal#repair}.
+ */
+final class GraphDelta {
+    private final IntHashSet touched = new IntHashSet();
+    private final IntArrayList nodes = new IntArrayList();
+
+    public void touch(int node) {
+        if (touched.add(node)) {
+            nodes.add(node);
+        }
+    }
+
+    public void touchAll(int[] pins) {
+        for (int pin : pins) {
+            touch(pin);
+        }
+    }
+
+    public boolean contains(int node) { return touched.contains(node); }
+
+    /** Returns the {@code index}-th touched node, in the order they were first recorded. */
+    public int get(int index) { return nodes.get(index); }
+
+    public int size() { return nodes.size(); }
+    public boolean isEmpty() { return nodes.isEmpty(); }
+
+    public void clear() {
+        touched.clear();
+        nodes.clear();
+    }
+}
@@ -0,0 +1,129 @@
+package org.example;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/** Hyperedge whose nodes are kept as a sorted, duplicate-free {@code int[]}. */
+class Hyperedge {
+    private static final int GALLOP_RATIO = 8;
+
+    private final int[] pins;
+    private final int id;
+
+    public Hyperedge(int id, Set<Integer> nodes) {
+        this.id = id;
+        this.pins = new int[nodes.size()];
+        int i = 0;
+        for (int node : nodes) {
+            pins[i++] = node;
+        }
+        Arrays.sort(pins);
+    }
+
+    Hyperedge(int id, int[] sortedPins) {
+        this.id = id;
+        this.pins = sortedPins;
+    }
+
+    public Set<Integer> getNodes() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() { return next < pins.length; }
+
+                    @Override
+                    public Integer next() {
+                        if (next >= pins.length) throw new NoSuchElementException();
+                        return pins[next++];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) { return o instanceof Integer node && Hyperedge.this.contains(node); }
+
+            @Override
+            public int size() { return pins.length; }
+        };
+    }
+
+    public int[] getPins() { return pins.clone(); }
+    public int getId() { return id; }
+    public boolean contains(int node) { return Arrays.binarySearch(pins, node) >= 0; }
+    public int size() { return pins.length; }
+
+    public void copyPinsTo(int[] target, int offset) {
+        System.arraycopy(pins, 0, target, offset, pins.length);
+    }
+
+    public int overlapSize(Hyperedge other) {
+        return intersect(other, null);
+    }
+
+    public int[] intersect(Hyperedge other) {
+        int[] out = new int[Math.min(pins.length, other.pins.length)];
+        int count = intersect(other, out);
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    /**
+     * Merges this edge's pins into the sorted set {@code target[0..targetSize)}, writing the union to
+     * {@code out} (which must have room for {@code targetSize + size()}). Returns the union's size.
+     */
+    public int unionInto(int[] target, int targetSize, int[] out) {
+        int i = 0, j = 0, k = 0;
+        while (i < targetSize && j < pins.length) {
+            int x = target[i], y = pins[j];
+            out[k++] = Math.min(x, y);
+            i += x <= y ? 1 : 0;
+            j += x >= y ? 1 : 0;
+        }
+        while (i < targetSize) out[k++] = target[i++];
+        while (j < pins.length) out[k++] = pins[j++];
+        return k;
+    }
+
+    // Linear branch-free merge for similar sizes, galloping search when one side is much smaller.
+    private int intersect(Hyperedge other, int[] out) {
+        int[] small = pins.length <= other.pins.length ? pins : other.pins;
+        int[] large = small == pins ? other.pins : pins;
+        int count = 0;
+
+        if ((long) small.length * GALLOP_RATIO < large.length) {
+            int from = 0;
+            for (int node : small) {
+                int bound = 1;
+                while (from + bound < large.length && large[from + bound] < node) {
+                    bound <<= 1;
+                }
+                int pos = Arrays.binarySearch(large, from + (bound >> 1), Math.min(from + bound + 1, large.length), node);
+                if (pos >= 0) {
+                    if (out != null) out[count] = node;
+                    count++;
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+                if (from >= large.length) break;
+            }
+            return count;
+        }
+
+        int i = 0, j = 0;
+        while (i < small.length && j < large.length) {
+            int x = small[i], y = large[j];
+            if (out != null && x == y) out[count] = x;
+            count += x == y ? 1 : 0;
+            i += x <= y ? 1 : 0;
+            j += x >= y ? 1 : 0;
+        }
+        return count;
+    }
+}
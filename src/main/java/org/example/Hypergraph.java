@@ -0,0 +1,291 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mutable builder-style hypergraph; not thread-safe. Use {@link #freeze()} to share it with readers.
+ * <p>
+ * Removed hyperedges leave a tombstone so the ids of the remaining edges stay stable; {@link #compact()}
+ * renumbers the live edges densely, either on demand or automatically once tombstones exceed the configured
+ * share of edge slots.
+ */
+class Hypergraph {
+    private static final int MAX_MERGED_EDGES = 8;
+    private static final Set<Integer> NO_EDGES = Collections.emptySet();
+
+    private int numNodes;
+    private final List<Hyperedge> hyperedges; // null marks a removed edge
+    private int removedEdges;
+    private double compactionThreshold = 1.0;
+    private final Map<Integer, Set<Integer>> nodeToEdges; // only nodes with at least one incident edge
+    private NeighborIndex neighborIndex;
+    private CompactHypergraph snapshot;
+    private GraphDelta changes;
+    private long version;
+
+    public Hypergraph(int numNodes) {
+        this.numNodes = numNodes;
+        this.hyperedges = new ArrayList<>();
+        this.nodeToEdges = new HashMap<>();
+    }
+
+    public void addHyperedge(Set<Integer> nodes) {
+        checkNodes(nodes);
+
+        int edgeId = hyperedges.size();
+        hyperedges.add(null);
+        attach(new Hyperedge(edgeId, nodes));
+    }
+
+    /** Appends an isolated node and returns its id. */
+    public int addNode() {
+        snapshot = null;
+        version++;
+        if (changes != null) {
+            changes.touch(numNodes);
+        }
+        return numNodes++;
+    }
+
+    /** Replaces the nodes of a live hyperedge, keeping its id. */
+    public void updateHyperedge(int edgeId, Set<Integer> nodes) {
+        checkNodes(nodes);
+        detach(liveEdge(edgeId));
+        attach(new Hyperedge(edgeId, nodes));
+    }
+
+    public void removeHyperedge(int edgeId) {
+        detach(liveEdge(edgeId));
+        removedEdges++;
+        if (removedEdges > compactionThreshold * hyperedges.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Compacts automatically once removed edges make up more than {@code ratio} of all edge slots
+     * ({@code 1.0}, the default, never triggers). Compaction renumbers edges, so callers that keep edge ids
+     * should leave this off and call {@link #compact()} themselves.
+     */
+    public void setCompactionThreshold(double ratio) {
+        if (ratio <= 0 || ratio > 1) {
+            throw new IllegalArgumentException("Compaction threshold must be in (0, 1]: " + ratio);
+        }
+        compactionThreshold = ratio;
+    }
+
+    /**
+     * Drops tombstones and renumbers the live hyperedges densely in their current order.
+     * Returns the mapping from old to new edge id, with {@code -1} for removed edges.
+     */
+    public int[] compact() {
+        int[] newIds = new int[hyperedges.size()];
+        List<Hyperedge> live = new ArrayList<>(hyperedges.size() - removedEdges);
+        for (int oldId = 0; oldId < hyperedges.size(); oldId++) {
+            Hyperedge edge = hyperedges.get(oldId);
+            if (edge == null) {
+                newIds[oldId] = -1;
+                continue;
+            }
+            newIds[oldId] = live.size();
+            live.add(edge.getId() == live.size() ? edge : new Hyperedge(live.size(), edge.getPins()));
+        }
+
+        hyperedges.clear();
+        hyperedges.addAll(live);
+        removedEdges = 0;
+        nodeToEdges.clear();
+        for (Hyperedge edge : hyperedges) {
+            for (int node : edge.getNodes()) {
+                nodeToEdges.computeIfAbsent(node, k -> new HashSet<>()).add(edge.getId());
+            }
+        }
+        snapshot = null;
+        return newIds;
+    }
+
+    private void checkNodes(Set<Integer> nodes) {
+        for (int node : nodes) {
+            if (node < 0 || node >= numNodes) {
+                throw new IllegalArgumentException("Node out of range: " + node);
+            }
+        }
+    }
+
+    private Hyperedge liveEdge(int edgeId) {
+        Hyperedge edge = edgeId >= 0 && edgeId < hyperedges.size() ? hyperedges.get(edgeId) : null;
+        if (edge == null) {
+            throw new IllegalArgumentException("No such hyperedge: " + edgeId);
+        }
+        return edge;
+    }
+
+    private void attach(Hyperedge edge) {
+        hyperedges.set(edge.getId(), edge);
+        for (int node : edge.getNodes()) {
+            nodeToEdges.computeIfAbsent(node, k -> new HashSet<>()).add(edge.getId());
+        }
+        if (neighborIndex != null) {
+            neighborIndex.patch(edge.getPins());
+        }
+        if (changes != null) {
+            changes.touchAll(edge.getPins());
+        }
+        snapshot = null;
+        version++;
+    }
+
+    private void detach(Hyperedge edge) {
+        hyperedges.set(edge.getId(), null);
+        for (int node : edge.getNodes()) {
+            Set<Integer> edges = nodeToEdges.get(node);
+            edges.remove(edge.getId());
+            if (edges.isEmpty()) {
+                nodeToEdges.remove(node);
+            }
+            if (neighborIndex != null) {
+                neighborIndex.invalidate(node);
+            }
+            if (changes != null) {
+                changes.touch(node);
+            }
+        }
+        snapshot = null;
+        version++;
+    }
+
+    /** Records the nodes touched by subsequent mutations into {@code delta}; {@code null} stops recording. */
+    public void recordChanges(GraphDelta delta) {
+        changes = delta;
+    }
+
+    /** Caches neighbor arrays lazily, keeping at most roughly {@code memoryBudgetBytes} of them. */
+    public void enableNeighborIndex(long memoryBudgetBytes) {
+        neighborIndex = new NeighborIndex(memoryBudgetBytes);
+    }
+
+    /** Fills the neighbor index for every node up front (until its budget is exhausted). */
+    public void precomputeNeighbors() {
+        if (neighborIndex == null) {
+            enableNeighborIndex(Long.MAX_VALUE);
+        }
+        for (int node = 0; node < numNodes && !neighborIndex.isFull(); node++) {
+            getNeighborArray(node);
+        }
+    }
+
+    public int getNumNodes() { return numNodes; }
+
+    /** Incremented by every change to nodes or adjacency; {@link #compact()} only renumbers edges and keeps it. */
+    public long getVersion() { return version; }
+    public int getNumHyperedges() { return hyperedges.size() - removedEdges; }
+
+    /** Live hyperedges in id order. */
+    public List<Hyperedge> getHyperedges() {
+        if (removedEdges == 0) {
+            return Collections.unmodifiableList(hyperedges);
+        }
+        List<Hyperedge> live = new ArrayList<>(getNumHyperedges());
+        for (Hyperedge edge : hyperedges) {
+            if (edge != null) live.add(edge);
+        }
+        return Collections.unmodifiableList(live);
+    }
+
+    public Set<Integer> getNeighbors(int node) {
+        Set<Integer> neighbors = new HashSet<>();
+        if (neighborIndex != null) {
+            for (int neighbor : getNeighborArray(node)) {
+                neighbors.add(neighbor);
+            }
+            return neighbors;
+        }
+
+        for (int edgeId : edgesOf(node)) {
+            neighbors.addAll(hyperedges.get(edgeId).getNodes());
+        }
+        neighbors.remove(node);
+        return neighbors;
+    }
+
+    /** Sorted, deduplicated neighbors of {@code node}; served from the neighbor index when enabled. */
+    public int[] getNeighborArray(int node) {
+        int[] neighbors = neighborIndex != null ? neighborIndex.get(node) : null;
+        if (neighbors != null) return neighbors;
+
+        Set<Integer> edgeIds = edgesOf(node);
+        int total = 0;
+        for (int edgeId : edgeIds) {
+            total += hyperedges.get(edgeId).size();
+        }
+
+        int[] buffer = new int[total];
+        if (edgeIds.size() <= MAX_MERGED_EDGES) {
+            // Few incident edges: merge their sorted pins pairwise, which deduplicates as it goes.
+            int[] spare = new int[total];
+            int size = 0;
+            for (int edgeId : edgeIds) {
+                size = hyperedges.get(edgeId).unionInto(buffer, size, spare);
+                int[] swap = buffer;
+                buffer = spare;
+                spare = swap;
+            }
+            neighbors = NeighborIndex.sortedNeighbors(buffer, size, node);
+        } else {
+            int pos = 0;
+            for (int edgeId : edgeIds) {
+                Hyperedge edge = hyperedges.get(edgeId);
+                edge.copyPinsTo(buffer, pos);
+                pos += edge.size();
+            }
+            neighbors = NeighborIndex.sortedNeighbors(buffer, total, node);
+        }
+
+        if (neighborIndex != null) {
+            neighborIndex.put(node, neighbors);
+        }
+        return neighbors;
+    }
+
+    public Set<Integer> getEdgesContaining(int node) {
+        return Collections.unmodifiableSet(edgesOf(node));
+    }
+
+    private Set<Integer> edgesOf(int node) {
+        return nodeToEdges.getOrDefault(node, NO_EDGES);
+    }
+
+    /**
+     * Returns an immutable compact snapshot of the current state. The snapshot is cached until the next
+     * modification, and it may be shared freely between threads. Snapshot edge ids number the live edges in
+     * order, so they match this graph's ids whenever there are no tombstones.
+     */
+    public CompactHypergraph freeze() {
+        if (snapshot == null) {
+            snapshot = toCompact();
+        }
+        return snapshot;
+    }
+
+    private CompactHypergraph toCompact() {
+        List<Hyperedge> live = getHyperedges();
+        int[] offsets = new int[live.size() + 1];
+        for (int e = 0; e < live.size(); e++) {
+            offsets[e + 1] = offsets[e] + live.get(e).size();
+        }
+
+        int[] pins = new int[offsets[live.size()]];
+        int pos = 0;
+        for (Hyperedge edge : live) {
+            edge.copyPinsTo(pins, pos);
+            pos += edge.size();
+        }
+        return new CompactHypergraph(numNodes, offsets, pins);
+    }
+}
@@ -0,0 +1,103 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk construction of a {@link CompactHypergraph} from flat {@code int[]} pin arrays, without the per-edge
+ * {@code Hyperedge}/{@code HashSet} and per-pin map lookups of {@link Hypergraph#addHyperedge}. Edges are
+ * appended to presized primitive buffers; {@link #build} then counts node degrees in one pass and fills
+ * exact-size node-to-edge arrays in a second, optionally in parallel.
+ */
+final class HypergraphBuilder {
+    private final int numNodes;
+    private final IntArrayList edgeOffsets;
+    private final IntArrayList edgePins;
+
+    HypergraphBuilder(int numNodes) {
+        this(numNodes, 16, 64);
+    }
+
+    HypergraphBuilder(int numNodes, int expectedEdges, int expectedPins) {
+        this.numNodes = numNodes;
+        this.edgeOffsets = new IntArrayList(expectedEdges + 1);
+        this.edgePins = new IntArrayList(expectedPins);
+        edgeOffsets.add(0);
+    }
+
+    public HypergraphBuilder addEdge(int... pins) {
+        return addEdge(pins, 0, pins.length);
+    }
+
+    public HypergraphBuilder addEdge(int[] pins, int from, int to) {
+        for (int i = from; i < to; i++) {
+            edgePins.add(pins[i]);
+        }
+        edgeOffsets.add(edgePins.size());
+        return this;
+    }
+
+    /** Adds many edges at once; edge {@code e} is {@code pins[offsets[e] .. offsets[e + 1])}. */
+    public HypergraphBuilder addEdges(int[] offsets, int[] pins) {
+        for (int e = 0; e + 1 < offsets.length; e++) {
+            addEdge(pins, offsets[e], offsets[e + 1]);
+        }
+        return this;
+    }
+
+    public int getNumEdges() { return edgeOffsets.size() - 1; }
+
+    public CompactHypergraph build() {
+        return new CompactHypergraph(numNodes, edgeOffsets.toArray(), edgePins.toArray());
+    }
+
+    public CompactHypergraph build(ForkJoinPool pool) {
+        return build(numNodes, edgeOffsets.toArray(), edgePins.toArray(), pool);
+    }
+
+    /**
+     * Parallel two-pass construction over CSR edge arrays, which are taken over (each edge's pins get sorted in
+     * place). Degrees are counted with atomic increments, prefix-summed, and the node-to-edge lists filled through
+     * atomic cursors; each node's list is sorted afterwards so the result matches the sequential build exactly.
+     */
+    static CompactHypergraph build(int numNodes, int[] edgeOffsets, int[] edgePins, ForkJoinPool pool) {
+        int numEdges = edgeOffsets.length - 1;
+        AtomicIntegerArray degrees = new AtomicIntegerArray(numNodes);
+        pool.submit(() -> IntStream.range(0, numEdges).parallel().forEach(e -> {
+            int from = edgeOffsets[e], to = edgeOffsets[e + 1];
+            Arrays.sort(edgePins, from, to);
+            for (int i = from; i < to; i++) {
+                int node = edgePins[i];
+                if (node < 0 || node >= numNodes) {
+                    throw new IllegalArgumentException("Node out of range: " + node);
+                }
+                if (i > from && node == edgePins[i - 1]) {
+                    throw new IllegalArgumentException("Duplicate node " + node + " in hyperedge " + e);
+                }
+                degrees.getAndIncrement(node);
+            }
+        })).join();
+
+        int[] nodeOffsets = new int[numNodes + 1];
+        for (int v = 0; v < numNodes; v++) {
+            nodeOffsets[v + 1] = nodeOffsets[v] + degrees.get(v);
+        }
+
+        AtomicIntegerArray cursors = new AtomicIntegerArray(Arrays.copyOf(nodeOffsets, numNodes));
+        int[] nodeEdges = new int[nodeOffsets[numNodes]];
+        pool.submit(() -> IntStream.range(0, numEdges).parallel().forEach(e -> {
+            for (int i = edgeOffsets[e]; i < edgeOffsets[e + 1]; i++) {
+                nodeEdges[cursors.getAndIncrement(edgePins[i])] = e;
+            }
+        })).join();
+        pool.submit(() -> IntStream.range(0, numNodes).parallel().forEach(v -> {
+            if (nodeOffsets[v + 1] - nodeOffsets[v] > 1) {
+                Arrays.sort(nodeEdges, nodeOffsets[v], nodeOffsets[v + 1]);
+            }
+        })).join();
+
+        return new CompactHypergraph(numNodes, edgeOffsets, edgePins, nodeOffsets, nodeEdges);
+    }
+}
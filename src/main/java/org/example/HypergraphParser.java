@@ -0,0 +1,290 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Single-pass streaming parser for hMETIS and PaToH hypergraph files. Bytes are read through positional
+ * {@link FileChannel} reads into a reusable buffer and tokenized by hand into primitive int lists, so no
+ * per-line or per-token objects are created. With more than one thread the data section is split into
+ * line-aligned chunks that are parsed concurrently and stitched together in file order.
+ * <p>
+ * hMETIS: header {@code numEdges numNodes [fmt]}, 1-based pins, an edge weight first on each edge line when
+ * {@code fmt} is 1 or 11. PaToH: header {@code base numCells numNets numPins [scheme [constraints]]}, pins in
+ * the given index base, a net cost first on each net line when {@code scheme} is 2 or 3. In both formats
+ * lines starting with {@code %} are comments and trailing node weights are ignored.
+ */
+final class HypergraphParser {
+    enum Format { HMETIS, PATOH }
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final Format format;
+    private final int threads;
+    private long bytesRead;
+    private long pinsRead;
+    private long elapsedNanos;
+
+    HypergraphParser(Format format) {
+        this(format, 1);
+    }
+
+    HypergraphParser(Format format, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.format = format;
+        this.threads = threads;
+    }
+
+    static Format formatOf(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".patoh") || name.endsWith(".u") ? Format.PATOH : Format.HMETIS;
+    }
+
+    public CompactHypergraph parse(Path file) throws IOException {
+        long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            LineChunk header = new LineChunk();
+            header.parse(file, channel, 0, size, false, 1);
+            if (header.lineSizes.isEmpty()) {
+                throw new IOException(file + ": missing header");
+            }
+
+            int numNodes, numEdges, base;
+            long declaredPins = -1;
+            boolean edgeWeights;
+            IntArrayList h = header.values;
+            if (format == Format.HMETIS) {
+                if (h.size() < 2) throw new IOException(file + ": hMETIS header needs numEdges and numNodes");
+                numEdges = h.get(0);
+                numNodes = h.get(1);
+                int fmt = h.size() > 2 ? h.get(2) : 0;
+                edgeWeights = fmt == 1 || fmt == 11;
+                base = 1;
+            } else {
+                if (h.size() < 4) throw new IOException(file + ": PaToH header needs base, cells, nets and pins");
+                base = h.get(0);
+                numNodes = h.get(1);
+                numEdges = h.get(2);
+                declaredPins = h.get(3);
+                int scheme = h.size() > 4 ? h.get(4) : 0;
+                edgeWeights = scheme == 2 || scheme == 3;
+                if (base != 0 && base != 1) throw new IOException(file + ": PaToH index base must be 0 or 1");
+            }
+
+            List<LineChunk> chunks = parseData(file, channel, header.end, size, edgeWeights);
+
+            int[] offsets = new int[numEdges + 1];
+            int edge = 0;
+            for (LineChunk chunk : chunks) {
+                for (int i = 0; i < chunk.lineSizes.size() && edge < numEdges; i++, edge++) {
+                    offsets[edge + 1] = offsets[edge] + chunk.lineSizes.get(i);
+                }
+            }
+            if (edge < numEdges) {
+                throw new IOException(file + ": expected " + numEdges + " hyperedges, found " + edge);
+            }
+            if (declaredPins >= 0 && declaredPins != offsets[numEdges]) {
+                throw new IOException(file + ": header declares " + declaredPins + " pins, found " + offsets[numEdges]);
+            }
+
+            int[] pins = new int[offsets[numEdges]];
+            int pos = 0;
+            for (LineChunk chunk : chunks) {
+                int length = Math.min(chunk.values.size(), pins.length - pos);
+                chunk.values.copyTo(pins, pos, length);
+                pos += length;
+                if (pos == pins.length) break;
+            }
+            for (int i = 0; i < pins.length; i++) {
+                int pin = pins[i] - base;
+                if (pin < 0 || pin >= numNodes) {
+                    throw new IOException(file + ": pin out of range: " + pins[i]);
+                }
+                pins[i] = pin;
+            }
+
+            CompactHypergraph graph;
+            try {
+                graph = threads == 1
+                        ? new CompactHypergraph(numNodes, offsets, pins)
+                        : HypergraphBuilder.build(numNodes, offsets, pins, ForkJoinPool.commonPool());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(file + ": " + innermost(e, IllegalArgumentException.class).getMessage(), e);
+            }
+            bytesRead = size;
+            pinsRead = pins.length;
+            elapsedNanos = System.nanoTime() - started;
+            return graph;
+        }
+    }
+
+    public long getBytesRead() { return bytesRead; }
+    public long getPinsRead() { return pinsRead; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getThroughputMBps() {
+        return elapsedNanos == 0 ? 0 : bytesRead / 1e6 / (elapsedNanos / 1e9);
+    }
+
+    private List<LineChunk> parseData(Path file, FileChannel channel, long from, long to, boolean skipFirst)
+            throws IOException {
+        List<LineChunk> chunks = new ArrayList<>();
+        if (from >= to) return chunks;
+
+        if (threads == 1) {
+            LineChunk chunk = new LineChunk();
+            chunk.parse(file, channel, from, to, skipFirst, Integer.MAX_VALUE);
+            chunks.add(chunk);
+            return chunks;
+        }
+
+        long[] starts = new long[threads + 1];
+        starts[0] = from;
+        for (int t = 1; t < threads; t++) {
+            long nominal = from + (to - from) * t / threads;
+            starts[t] = Math.max(starts[t - 1], nextLineStart(channel, nominal, to));
+        }
+        starts[threads] = to;
+
+        List<Callable<LineChunk>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long chunkFrom = starts[t], chunkTo = starts[t + 1];
+            if (chunkFrom == chunkTo) continue;
+            tasks.add(() -> {
+                LineChunk chunk = new LineChunk();
+                chunk.parse(file, channel, chunkFrom, chunkTo, skipFirst, Integer.MAX_VALUE);
+                return chunk;
+            });
+        }
+
+        try {
+            for (Future<LineChunk> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                chunks.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing " + file, e);
+        } catch (ExecutionException | RuntimeException e) {
+            IOException io = innermost(e, IOException.class);
+            if (io != null) throw io;
+            throw new IOException("Failed to parse " + file, e);
+        }
+        return chunks;
+    }
+
+    /**
+     * Innermost exception of {@code type} in the cause chain, or null. Fork/join rethrows a worker's failure as a
+     * copy of it (or a RuntimeException for a checked one) with the original as its cause.
+     */
+    private static <T extends Throwable> T innermost(Throwable thrown, Class<T> type) {
+        T found = null;
+        for (Throwable t = thrown; t != null; t = t.getCause()) {
+            if (type.isInstance(t)) found = type.cast(t);
+        }
+        return found;
+    }
+
+    // First line start at or after pos: pos itself if the preceding byte is a newline.
+    private static long nextLineStart(FileChannel channel, long pos, long limit) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long at = pos - 1;
+        while (at < limit) {
+            buffer.clear();
+            int n = channel.read(buffer, at);
+            if (n <= 0) return limit;
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') return at + i + 1;
+            }
+            at += n;
+        }
+        return limit;
+    }
+
+    /** Tokens and per-line token counts of the data lines starting in one byte range. */
+    private static final class LineChunk {
+        final IntArrayList lineSizes = new IntArrayList();
+        final IntArrayList values = new IntArrayList(1 << 12);
+        long end;
+
+        // Parses lines starting before `to` (a line may run past it), stopping after maxLines data lines.
+        void parse(Path file, FileChannel channel, long from, long to, boolean skipFirst, int maxLines)
+                throws IOException {
+            byte[] bytes = new byte[(int) Math.min(BUFFER_BYTES, Math.max(to - from, 64))];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long bufferStart = from;
+            int length = 0, i = 0;
+
+            boolean atLineStart = true, comment = false, inNumber = false;
+            long value = 0;
+            int tokens = 0, kept = 0, lines = 0;
+
+            while (true) {
+                if (i == length) {
+                    bufferStart += length;
+                    buffer.clear();
+                    length = Math.max(channel.read(buffer, bufferStart), 0);
+                    i = 0;
+                    if (length == 0) {
+                        if (inNumber) {
+                            if (!(skipFirst && tokens == 0)) { values.add((int) value); kept++; }
+                            tokens++;
+                        }
+                        if (tokens > 0) lineSizes.add(kept);
+                        end = bufferStart;
+                        return;
+                    }
+                }
+
+                byte b = bytes[i++];
+                if (comment && b != '\n') continue;
+
+                if (b >= '0' && b <= '9') {
+                    value = value * 10 + (b - '0');
+                    if (value > Integer.MAX_VALUE) {
+                        throw new IOException(file + ": number too large at byte " + (bufferStart + i - 1));
+                    }
+                    inNumber = true;
+                    atLineStart = false;
+                } else if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                    if (inNumber) {
+                        if (!(skipFirst && tokens == 0)) { values.add((int) value); kept++; }
+                        tokens++;
+                        value = 0;
+                        inNumber = false;
+                    }
+                    if (b == '\n') {
+                        if (tokens > 0) {
+                            lineSizes.add(kept);
+                            lines++;
+                        }
+                        tokens = kept = 0;
+                        comment = false;
+                        atLineStart = true;
+                        long next = bufferStart + i;
+                        if (lines == maxLines || next >= to) {
+                            end = next;
+                            return;
+                        }
+                    }
+                } else if (b == '%' && atLineStart) {
+                    comment = true;
+                } else {
+                    throw new IOException(file + ": unexpected character '" + (char) b + "' at byte " + (bufferStart + i - 1));
+                }
+            }
+        }
+    }
+}
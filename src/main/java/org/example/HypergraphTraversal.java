@@ -0,0 +1,422 @@
+package org.example;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class HypergraphTraversal {
+    private HypergraphView graph;
+    private NeighborIndex neighborCache; // null unless enabled; share a NeighborTable across traversals instead
+    private VisitedSet visitedNodes;
+    private final LongIntHashMap edgeTransitions; // (from << 32 | to) -> count
+    private final IntArrayList path;
+    private final TraversalState state = new State();
+    private NextNodeStrategy strategy = NextNodeStrategies.GREEDY;
+    private int[] unvisitedDegree; // node -> number of its neighbors not visited yet, valid when stamped
+    private int[] degreeStamps;
+    private int degreeGeneration;
+    private int[] neighborCounts; // node -> number of neighbors, -1 until first needed
+    private int totalTransitions;
+    private int repeatedTransitions;
+    private int jumpSearchLimit;
+    private long maxSteps = Long.MAX_VALUE;
+    private long timeLimitNanos = Long.MAX_VALUE;
+    private TraversalResult.Termination termination;
+    private ConnectedComponents components; // computed once per graph unless supplied
+    private int[] searchQueue; // breadth-first search buffers, allocated on the first jump
+    private int[] searchParent;
+    private int[] searchStamp;
+    private int searchGeneration;
+    private final IntArrayList route = new IntArrayList();
+
+    public HypergraphTraversal(Hypergraph graph) {
+        this(graph.freeze());
+    }
+
+    public HypergraphTraversal(HypergraphView graph) {
+        this.graph = graph;
+        this.visitedNodes = new VisitedSet(graph.getNumNodes());
+        this.edgeTransitions = new LongIntHashMap();
+        this.path = new IntArrayList();
+        this.unvisitedDegree = new int[graph.getNumNodes()];
+        this.degreeStamps = new int[graph.getNumNodes()];
+        this.neighborCounts = new int[graph.getNumNodes()];
+        Arrays.fill(neighborCounts, -1);
+    }
+
+    public HypergraphTraversal(HypergraphView graph, long neighborCacheBytes) {
+        this(graph);
+        setNeighborCache(neighborCacheBytes);
+    }
+
+    /**
+     * Caches up to roughly {@code budgetBytes} of neighbor arrays in this traversal, for graphs whose
+     * {@link HypergraphView#getNeighbors} recomputes them, e.g. while {@link #repair repairing} successive
+     * snapshots. {@code 0}, the default, disables the cache; for a fixed graph read by several traversals,
+     * a shared {@link NeighborTable} is cheaper.
+     */
+    public void setNeighborCache(long budgetBytes) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("Neighbor cache budget must not be negative: " + budgetBytes);
+        }
+        neighborCache = budgetBytes > 0 ? new NeighborIndex(budgetBytes) : null;
+    }
+
+    /**
+     * When the walk reaches a node whose neighbors are all visited, searches breadth-first (expanding at most
+     * {@code maxSearchNodes} nodes) for the nearest unvisited node and walks the shortest route to it, instead
+     * of taking the least-used transition and wandering. {@code 0}, the default, disables the search.
+     */
+    public void setJumpOnStall(int maxSearchNodes) {
+        if (maxSearchNodes < 0) {
+            throw new IllegalArgumentException("Search limit must not be negative: " + maxSearchNodes);
+        }
+        jumpSearchLimit = maxSearchNodes;
+    }
+
+    /** Uses precomputed components of this traversal's graph, e.g. shared between the workers of an engine. */
+    public void setComponents(ConnectedComponents components) {
+        if (components.getNumNodes() != graph.getNumNodes()) {
+            throw new IllegalArgumentException("Components cover " + components.getNumNodes() + " nodes, graph has "
+                    + graph.getNumNodes());
+        }
+        this.components = components;
+    }
+
+    /** Stops a walk once it has made {@code steps} transitions. */
+    public void setMaxSteps(long steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("Step budget must not be negative: " + steps);
+        }
+        maxSteps = steps;
+    }
+
+    /** Stops a walk once it has run for {@code limit}; the clock is checked every 1024 moves. */
+    public void setTimeLimit(Duration limit) {
+        if (limit.isNegative()) {
+            throw new IllegalArgumentException("Time limit must not be negative: " + limit);
+        }
+        timeLimitNanos = limit.toNanos();
+    }
+
+    public List<Integer> traverse(int startNode) {
+        return traverse(startNode, NextNodeStrategies.GREEDY);
+    }
+
+    public List<Integer> traverse(int startNode, NextNodeStrategy strategy) {
+        int[] nodes = traversePath(startNode, strategy);
+        List<Integer> result = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            result.add(node);
+        }
+        return result;
+    }
+
+    public int[] traversePath(int startNode) {
+        return traversePath(startNode, NextNodeStrategies.GREEDY);
+    }
+
+    /**
+     * Like {@link #traversePath(int, NextNodeStrategy)}, but also reports coverage and why the walk stopped.
+     * Walks end as soon as every node reachable from the start is visited, so disconnected graphs terminate.
+     */
+    public TraversalResult traverseWithResult(int startNode, NextNodeStrategy strategy) {
+        int[] nodes = traversePath(startNode, strategy);
+        return new TraversalResult(startNode, nodes, visitedNodes.size(), reachableFrom(startNode),
+                graph.getNumNodes(), totalTransitions, repeatedTransitions, termination);
+    }
+
+    public int[] traversePath(int startNode, NextNodeStrategy strategy) {
+        this.strategy = strategy;
+        reset();
+        markVisited(startNode);
+        path.add(startNode);
+        walk(startNode);
+        return path.toArray();
+    }
+
+    /**
+     * Rebinds this traversal to {@code updatedGraph} and repairs {@code previousPath}, a walk produced by this
+     * class on the graph as it was before the changes recorded in {@code delta}. Each greedy step only looks at
+     * the neighborhoods of the current node and its neighbors, so the path is kept up to the first node that
+     * is touched or adjacent to a touched node, and the walk is re-run from there. With
+     * {@link #setJumpOnStall jumps} enabled a stall searches beyond that region, so the walk is also re-run from
+     * the first stall. Transition counters cover the whole repaired path.
+     */
+    public int[] repair(HypergraphView updatedGraph, int[] previousPath, GraphDelta delta) {
+        return repair(updatedGraph, previousPath, delta, NextNodeStrategies.GREEDY);
+    }
+
+    /** Like {@link #repair(HypergraphView, int[], GraphDelta)} for a path produced with {@code strategy}. */
+    public int[] repair(HypergraphView updatedGraph, int[] previousPath, GraphDelta delta,
+                        NextNodeStrategy strategy) {
+        if (previousPath.length == 0) {
+            throw new IllegalArgumentException("Previous path is empty");
+        }
+        this.strategy = strategy;
+        rebind(updatedGraph, delta);
+        int resume = firstAffectedStep(previousPath, delta);
+
+        reset();
+        for (int i = 0; i <= resume; i++) {
+            if (i > 0) {
+                recordTransition(previousPath[i - 1], previousPath[i]);
+            }
+            markVisited(previousPath[i]);
+            path.add(previousPath[i]);
+            if (i < resume && jumpSearchLimit > 0 && isStalled(previousPath[i])) {
+                resume = i;
+            }
+        }
+        walk(previousPath[resume]);
+        return path.toArray();
+    }
+
+    private void reset() {
+        visitedNodes.clear();
+        edgeTransitions.clear();
+        path.clear();
+        totalTransitions = 0;
+        repeatedTransitions = 0;
+        // Unvisited degrees are restored lazily on first use, so a walk only pays for the nodes it touches.
+        if (++degreeGeneration == 0) {
+            Arrays.fill(degreeStamps, 0);
+            degreeGeneration = 1;
+        }
+    }
+
+    private void walk(int current) {
+        int reachable = reachableFrom(path.get(0));
+        long startTime = System.nanoTime();
+        int moves = 0;
+
+        while (true) {
+            if (visitedNodes.size() >= reachable) {
+                termination = reachable == graph.getNumNodes()
+                        ? TraversalResult.Termination.ALL_VISITED
+                        : TraversalResult.Termination.REACHABLE_VISITED;
+                return;
+            }
+            if (totalTransitions >= maxSteps) {
+                termination = TraversalResult.Termination.MAX_STEPS;
+                return;
+            }
+            if ((++moves & 1023) == 0 && System.nanoTime() - startTime > timeLimitNanos) {
+                termination = TraversalResult.Termination.TIME_LIMIT;
+                return;
+            }
+
+            int[] neighbors = neighbors(current);
+            int next = strategy.selectUnvisited(current, neighbors, state);
+            if (next == -1 && jumpSearchLimit > 0) {
+                int target = findNearestUnvisited(current);
+                if (target != -1) {
+                    current = followRoute(current, target);
+                    continue;
+                }
+            }
+            if (next == -1) {
+                // Never -1 here: an unvisited node is reachable, so the current node has neighbors.
+                next = leastUsedTransition(current, neighbors);
+            }
+
+            moveTo(current, next);
+            current = next;
+        }
+    }
+
+    private int reachableFrom(int node) {
+        if (components == null) {
+            components = ConnectedComponents.compute(graph);
+        }
+        return components.getComponentSize(components.getComponent(node));
+    }
+
+    private void moveTo(int from, int to) {
+        recordTransition(from, to);
+        markVisited(to);
+        path.add(to);
+    }
+
+    private boolean isStalled(int node) {
+        return strategy.selectUnvisited(node, neighbors(node), state) == -1;
+    }
+
+    /** Bounded breadth-first search from {@code source} for the closest unvisited node, or -1. */
+    private int findNearestUnvisited(int source) {
+        int numNodes = graph.getNumNodes();
+        if (searchQueue == null || searchQueue.length != numNodes) {
+            searchQueue = new int[numNodes];
+            searchParent = new int[numNodes];
+            searchStamp = new int[numNodes];
+            searchGeneration = 0;
+        }
+        if (++searchGeneration == 0) {
+            Arrays.fill(searchStamp, 0);
+            searchGeneration = 1;
+        }
+
+        int head = 0;
+        int tail = 0;
+        searchQueue[tail++] = source;
+        searchStamp[source] = searchGeneration;
+        while (head < tail && head < jumpSearchLimit) {
+            int node = searchQueue[head++];
+            for (int neighbor : neighbors(node)) {
+                if (searchStamp[neighbor] == searchGeneration) continue;
+                searchStamp[neighbor] = searchGeneration;
+                searchParent[neighbor] = node;
+                if (!visitedNodes.contains(neighbor)) return neighbor;
+                searchQueue[tail++] = neighbor;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Walks the search tree route from {@code source} to {@code target} and returns the node reached, which is
+     * {@code target} unless the step budget runs out on the way.
+     */
+    private int followRoute(int source, int target) {
+        route.clear();
+        for (int node = target; node != source; node = searchParent[node]) {
+            route.add(node);
+        }
+        int current = source;
+        for (int i = route.size() - 1; i >= 0 && totalTransitions < maxSteps; i--) {
+            moveTo(current, route.get(i));
+            current = route.get(i);
+        }
+        return current;
+    }
+
+
+    private void recordTransition(int from, int to) {
+        totalTransitions++;
+        if (edgeTransitions.increment(transitionKey(from, to)) > 1) {
+            repeatedTransitions++;
+        }
+    }
+
+    private void rebind(HypergraphView updatedGraph, GraphDelta delta) {
+        int numNodes = updatedGraph.getNumNodes();
+        if (numNodes < graph.getNumNodes()) {
+            throw new IllegalArgumentException("Updated graph has fewer nodes: " + numNodes);
+        }
+        if (numNodes > graph.getNumNodes()) {
+            visitedNodes = new VisitedSet(numNodes);
+            unvisitedDegree = new int[numNodes];
+            degreeStamps = new int[numNodes];
+            degreeGeneration = 0;
+            int oldNodes = neighborCounts.length;
+            neighborCounts = Arrays.copyOf(neighborCounts, numNodes);
+            Arrays.fill(neighborCounts, oldNodes, numNodes, -1);
+        }
+        graph = updatedGraph;
+        components = null;
+
+        for (int i = 0; i < delta.size(); i++) {
+            if (neighborCache != null) {
+                neighborCache.invalidate(delta.get(i));
+            }
+            neighborCounts[delta.get(i)] = -1;
+        }
+    }
+
+    /** Index of the first path node whose choice may differ on the updated graph, or the last index. */
+    private int firstAffectedStep(int[] previousPath, GraphDelta delta) {
+        IntHashSet affected = new IntHashSet(delta.size() * 4);
+        IntArrayList frontier = new IntArrayList();
+        for (int i = 0; i < delta.size(); i++) {
+            if (affected.add(delta.get(i))) frontier.add(delta.get(i));
+        }
+        for (int hop = 0; hop <= strategy.getLookahead(); hop++) {
+            IntArrayList next = new IntArrayList();
+            for (int i = 0; i < frontier.size(); i++) {
+                for (int neighbor : neighbors(frontier.get(i))) {
+                    if (affected.add(neighbor)) next.add(neighbor);
+                }
+            }
+            frontier = next;
+        }
+        for (int i = 0; i < previousPath.length; i++) {
+            if (affected.contains(previousPath[i])) return i;
+        }
+        return previousPath.length - 1;
+    }
+
+    private int leastUsedTransition(int current, int[] neighbors) {
+        int best = -1;
+        int minTransitions = Integer.MAX_VALUE;
+
+        for (int neighbor : neighbors) {
+            int count = edgeTransitions.get(transitionKey(current, neighbor));
+            if (count < minTransitions) {
+                minTransitions = count;
+                best = neighbor;
+            }
+        }
+
+        return best;
+    }
+
+    private void markVisited(int node) {
+        if (!visitedNodes.add(node)) return;
+        for (int neighbor : neighbors(node)) {
+            unvisitedDegree[neighbor] = unvisitedDegree(neighbor) - 1;
+        }
+    }
+
+    /** Unvisited degree in the current walk; a node first seen in this walk starts from its full neighbor count. */
+    private int unvisitedDegree(int node) {
+        if (degreeStamps[node] != degreeGeneration) {
+            degreeStamps[node] = degreeGeneration;
+            if (neighborCounts[node] < 0) {
+                neighborCounts[node] = neighbors(node).length;
+            }
+            unvisitedDegree[node] = neighborCounts[node];
+        }
+        return unvisitedDegree[node];
+    }
+
+    private int[] neighbors(int node) {
+        if (neighborCache == null) return graph.getNeighbors(node);
+        int[] neighbors = neighborCache.get(node);
+        if (neighbors == null) {
+            neighbors = graph.getNeighbors(node);
+            neighborCache.put(node, neighbors);
+        }
+        return neighbors;
+    }
+
+    private static long transitionKey(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    /** Why the last walk stopped. */
+    public TraversalResult.Termination getTermination() { return termination; }
+
+    public int getTotalTransitions() { return totalTransitions; }
+    public int getRepeatedTransitions() { return repeatedTransitions; }
+
+    private final class State implements TraversalState {
+        @Override
+        public HypergraphView getGraph() { return graph; }
+
+        @Override
+        public int[] getNeighbors(int node) { return neighbors(node); }
+
+        @Override
+        public boolean isVisited(int node) { return visitedNodes.contains(node); }
+
+        @Override
+        public int getVisitedCount() { return visitedNodes.size(); }
+
+        @Override
+        public int getUnvisitedDegree(int node) { return unvisitedDegree(node); }
+
+        @Override
+        public int getTransitionCount(int from, int to) { return edgeTransitions.get(transitionKey(from, to)); }
+    }
+}
@@ -7,157 +7,6 @@ import java.util.*;
 import java.util.List;
 
 
-class Hyperedge {
-    private final Set<Integer> nodes;
-    private final int id;
-
-    public Hyperedge(int id, Set<Integer> nodes) {
-        this.id = id;
-        this.nodes = new HashSet<>(nodes);
-    }
-
-    public Set<Integer> getNodes() { return nodes; }
-    public int getId() { return id; }
-    public boolean contains(int node) { return nodes.contains(node); }
-    public int size() { return nodes.size(); }
-}
-
-class Hypergraph {
-    private final int numNodes;
-    private final List<Hyperedge> hyperedges;
-    private final Map<Integer, Set<Integer>> nodeToEdges;
-
-    public Hypergraph(int numNodes) {
-        this.numNodes = numNodes;
-        this.hyperedges = new ArrayList<>();
-        this.nodeToEdges = new HashMap<>();
-        for (int i = 0; i < numNodes; i++) {
-            nodeToEdges.put(i, new HashSet<>());
-        }
-    }
-
-    public void addHyperedge(Set<Integer> nodes) {
-        int edgeId = hyperedges.size();
-        Hyperedge edge = new Hyperedge(edgeId, nodes);
-        hyperedges.add(edge);
-
-        for (int node : nodes) {
-            nodeToEdges.get(node).add(edgeId);
-        }
-    }
-
-    public int getNumNodes() { return numNodes; }
-    public List<Hyperedge> getHyperedges() { return hyperedges; }
-
-    public Set<Integer> getNeighbors(int node) {
-        Set<Integer> neighbors = new HashSet<>();
-        for (int edgeId : nodeToEdges.get(node)) {
-            neighbors.addAll(hyperedges.get(edgeId).getNodes());
-        }
-        neighbors.remove(node);
-        return neighbors;
-    }
-
-    public Set<Integer> getEdgesContaining(int node) {
-        return nodeToEdges.get(node);
-    }
-}
-
-class HypergraphTraversal {
-    private final Hypergraph graph;
-    private final Set<Integer> visitedNodes;
-    private final Map<String, Integer> edgeTransitions; // (from,to) -> count
-    private final List<Integer> path;
-
-    public HypergraphTraversal(Hypergraph graph) {
-        this.graph = graph;
-        this.visitedNodes = new HashSet<>();
-        this.edgeTransitions = new HashMap<>();
-        this.path = new ArrayList<>();
-    }
-
-    public List<Integer> traverse(int startNode) {
-        visitedNodes.clear();
-        edgeTransitions.clear();
-        path.clear();
-
-        int current = startNode;
-        visitedNodes.add(current);
-        path.add(current);
-
-        while (visitedNodes.size() < graph.getNumNodes()) {
-            int next = selectNextNode(current);
-            if (next == -1) break;
-
-            String transition = current + "->" + next;
-            edgeTransitions.put(transition, edgeTransitions.getOrDefault(transition, 0) + 1);
-
-            current = next;
-            visitedNodes.add(current);
-            path.add(current);
-        }
-
-        return new ArrayList<>(path);
-    }
-
-    private int selectNextNode(int current) {
-        Set<Integer> neighbors = graph.getNeighbors(current);
-
-        List<Integer> unvisited = new ArrayList<>();
-        for (int neighbor : neighbors) {
-            if (!visitedNodes.contains(neighbor)) {
-                unvisited.add(neighbor);
-            }
-        }
-
-        if (!unvisited.isEmpty()) {
-            return selectBestUnvisited(current, unvisited);
-        }
-
-        int best = -1;
-        int minTransitions = Integer.MAX_VALUE;
-
-        for (int neighbor : neighbors) {
-            String transition = current + "->" + neighbor;
-            int count = edgeTransitions.getOrDefault(transition, 0);
-            if (count < minTransitions) {
-                minTransitions = count;
-                best = neighbor;
-            }
-        }
-
-        return best;
-    }
-
-    private int selectBestUnvisited(int current, List<Integer> candidates) {
-        int best = candidates.get(0);
-        int maxUnvisitedNeighbors = 0;
-
-        for (int candidate : candidates) {
-            Set<Integer> neighbors = graph.getNeighbors(candidate);
-            int unvisitedCount = 0;
-            for (int n : neighbors) {
-                if (!visitedNodes.contains(n)) unvisitedCount++;
-            }
-
-            if (unvisitedCount > maxUnvisitedNeighbors) {
-                maxUnvisitedNeighbors = unvisitedCount;
-                best = candidate;
-            }
-        }
-
-        return best;
-    }
-
-    public int getTotalTransitions() {
-        return edgeTransitions.values().stream().mapToInt(Integer::intValue).sum();
-    }
-
-    public int getRepeatedTransitions() {
-        return edgeTransitions.values().stream().filter(c -> c > 1).mapToInt(c -> c - 1).sum();
-    }
-}
-
 class HypergraphVisualizer extends JPanel {
     private Hypergraph graph;
     private List<Integer> path;
@@ -0,0 +1,298 @@
+package org.example;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Headless batch entry point: loads a graph file, runs the traversal for each requested start node and streams
+ * one result per line to standard output, or with {@code --serve} answers the same queries over loopback HTTP
+ * (see {@link TraversalServer}). Never touches AWT/Swing, so it runs with {@code -Djava.awt.headless=true}.
+ */
+public final class HypergraphTraversalCli {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: HypergraphTraversalCli <graph.hgr|graph.patoh|graph.hgb> [options]",
+            "  --start N[,N...]   start nodes (default: 0)",
+            "  --all              start from every node",
+            "  --components       walk each connected component once, in parallel, instead of from start nodes",
+            "  --format F         jsonl (default) or csv",
+            "  --no-path          omit the path from each result",
+            "  --strategy S       greedy (default), first-unvisited, degree-ordered, lookahead or random[:SEED]",
+            "  --jump-search N    on a dead end, search up to N nodes for the nearest unvisited one (default: 0, off)",
+            "  --max-steps N      stop each walk after N transitions",
+            "  --time-limit-ms N  stop each walk after N milliseconds",
+            "  --write-binary F   also save the graph as a memory-mappable .hgb file",
+            "  --threads N        parser threads for text formats (default: 1)",
+            "  --neighbor-cache-mb N  cache N MB of neighbors per traversal instead of precomputing them all once",
+            "  --serve PORT       answer GET /traverse?start=N on 127.0.0.1:PORT instead of printing results",
+            "  --cache-mb N       with --serve, cache up to N MB of paths (default: 0, no cache)");
+
+    private HypergraphTraversalCli() {}
+
+    public static void main(String[] args) {
+        Path graphFile = null;
+        int[] startNodes = {0};
+        boolean explicitStarts = false;
+        boolean allStarts = false;
+        boolean perComponent = false;
+        boolean csv = false;
+        boolean includePath = true;
+        Path binaryFile = null;
+        int threads = 1;
+        int servePort = -1;
+        int cacheMegabytes = 0;
+        int neighborCacheMegabytes = 0;
+        NextNodeStrategy strategy = NextNodeStrategies.GREEDY;
+        int jumpSearch = 0;
+        long maxSteps = Long.MAX_VALUE;
+        long timeLimitMillis = -1;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--start" -> {
+                        startNodes = parseStarts(value(args, ++i));
+                        explicitStarts = true;
+                    }
+                    case "--all" -> allStarts = true;
+                    case "--components" -> perComponent = true;
+                    case "--format" -> {
+                        String format = value(args, ++i);
+                        if (!format.equals("jsonl") && !format.equals("csv")) {
+                            throw new IllegalArgumentException("Unknown format: " + format);
+                        }
+                        csv = format.equals("csv");
+                    }
+                    case "--no-path" -> includePath = false;
+                    case "--strategy" -> strategy = NextNodeStrategies.byName(value(args, ++i));
+                    case "--jump-search" -> jumpSearch = parseNonNegative(value(args, ++i));
+                    case "--max-steps" -> maxSteps = parseNonNegative(value(args, ++i));
+                    case "--time-limit-ms" -> timeLimitMillis = parsePositive(value(args, ++i));
+                    case "--write-binary" -> binaryFile = Path.of(value(args, ++i));
+                    case "--threads" -> threads = parsePositive(value(args, ++i));
+                    case "--serve" -> servePort = parsePort(value(args, ++i));
+                    case "--cache-mb" -> cacheMegabytes = parsePositive(value(args, ++i));
+                    case "--neighbor-cache-mb" -> neighborCacheMegabytes = parsePositive(value(args, ++i));
+                    default -> {
+                        if (args[i].startsWith("--") || graphFile != null) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        graphFile = Path.of(args[i]);
+                    }
+                }
+            }
+            if (graphFile == null) {
+                throw new IllegalArgumentException("No graph file given");
+            }
+            if (perComponent && (explicitStarts || allStarts || servePort >= 0)) {
+                throw new IllegalArgumentException("--components cannot be combined with --start, --all or --serve");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        HypergraphView graph = null;
+        try {
+            long loadStart = System.nanoTime();
+            if (graphFile.getFileName().toString().endsWith(".hgb")) {
+                graph = MappedHypergraph.open(graphFile);
+            } else {
+                HypergraphParser parser = new HypergraphParser(HypergraphParser.formatOf(graphFile), threads);
+                graph = parser.parse(graphFile);
+                System.err.printf("Parsed %d pins (%.1f MB) at %.1f MB/s%n", parser.getPinsRead(),
+                        parser.getBytesRead() / 1e6, parser.getThroughputMBps());
+            }
+            System.err.printf("Loaded %d nodes, %d hyperedges in %d ms%n", graph.getNumNodes(),
+                    graph.getNumEdges(), (System.nanoTime() - loadStart) / 1_000_000);
+            if (binaryFile != null) {
+                MappedHypergraph.write(graph, binaryFile);
+            }
+
+            // All traversals read one shared neighbor table unless each was asked for a bounded cache of its own.
+            HypergraphView traversed = graph;
+            if (neighborCacheMegabytes == 0) {
+                long tableStart = System.nanoTime();
+                traversed = NeighborTable.build(graph, ForkJoinPool.commonPool());
+                System.err.printf("Precomputed neighbors in %d ms%n", (System.nanoTime() - tableStart) / 1_000_000);
+            }
+            Consumer<HypergraphTraversal> configurer = configurer(jumpSearch, maxSteps, timeLimitMillis,
+                    (long) neighborCacheMegabytes << 20);
+            if (servePort >= 0) {
+                serve(traversed, servePort, cacheMegabytes > 0 ? new TraversalCache((long) cacheMegabytes << 20) : null,
+                        configurer);
+                return;
+            }
+
+            if (allStarts) {
+                startNodes = new int[graph.getNumNodes()];
+                for (int i = 0; i < startNodes.length; i++) {
+                    startNodes[i] = i;
+                }
+            }
+            for (int start : startNodes) {
+                if (start < 0 || start >= graph.getNumNodes()) {
+                    System.err.println("Start node out of range: " + start);
+                    System.exit(2);
+                    return;
+                }
+            }
+
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+            if (csv) {
+                out.write("start,length,totalTransitions,repeatedTransitions" + (includePath ? ",path" : "") + "\n");
+            }
+            if (perComponent) {
+                ComponentTraversalResult components = new ParallelTraversalEngine(traversed, ForkJoinPool.commonPool(),
+                        strategy, configurer).runPerComponent();
+                System.err.printf("Walked %d components with %d transitions%n", components.getNumComponents(),
+                        components.getTotalTransitions());
+                for (int c = 0; c < components.getNumComponents(); c++) {
+                    writeResult(out, components.getResult(c), csv, includePath);
+                }
+            } else {
+                HypergraphTraversal traversal = new HypergraphTraversal(traversed);
+                configurer.accept(traversal);
+                for (int start : startNodes) {
+                    writeResult(out, traversal.traverseWithResult(start, strategy), csv, includePath);
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            if (graph instanceof MappedHypergraph mapped) {
+                mapped.close();
+            }
+        }
+    }
+
+    /** Applies the jump search, budgets and neighbor cache from the command line to a traversal. */
+    private static Consumer<HypergraphTraversal> configurer(int jumpSearch, long maxSteps, long timeLimitMillis,
+                                                            long neighborCacheBytes) {
+        return traversal -> {
+            traversal.setNeighborCache(neighborCacheBytes);
+            traversal.setJumpOnStall(jumpSearch);
+            traversal.setMaxSteps(maxSteps);
+            if (timeLimitMillis >= 0) {
+                traversal.setTimeLimit(Duration.ofMillis(timeLimitMillis));
+            }
+        };
+    }
+
+    private static void serve(HypergraphView graph, int port, TraversalCache cache,
+                              Consumer<HypergraphTraversal> configurer) throws IOException {
+        TraversalServer server = new TraversalServer(graph, port, Runtime.getRuntime().availableProcessors(), cache,
+                configurer);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+        System.err.println("Serving on http://127.0.0.1:" + server.getPort() + "/traverse");
+        try {
+            server.awaitStop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static void writeJson(Writer out, int start, int[] path, int totalTransitions, int repeatedTransitions,
+                          boolean includePath) throws IOException {
+        out.write("{\"start\":" + start + ",\"length\":" + path.length
+                + ",\"totalTransitions\":" + totalTransitions
+                + ",\"repeatedTransitions\":" + repeatedTransitions);
+        if (includePath) {
+            out.write(",\"path\":[");
+            writeNodes(out, path, ',');
+            out.write(']');
+        }
+        out.write("}\n");
+    }
+
+    private static void writeResult(Writer out, TraversalResult result, boolean csv, boolean includePath)
+            throws IOException {
+        if (!result.isComplete()) {
+            System.err.printf("Start %d stopped on %s after visiting %d of %d reachable nodes%n",
+                    result.getStartNode(), result.getTermination(), result.getVisitedNodes(),
+                    result.getReachableNodes());
+        }
+        if (csv) {
+            writeCsv(out, result.getStartNode(), result.getPath(), result.getTotalTransitions(),
+                    result.getRepeatedTransitions(), includePath);
+        } else {
+            writeJson(out, result.getStartNode(), result.getPath(), result.getTotalTransitions(),
+                    result.getRepeatedTransitions(), includePath);
+        }
+    }
+
+    private static void writeCsv(Writer out, int start, int[] path, int totalTransitions, int repeatedTransitions,
+                                 boolean includePath) throws IOException {
+        out.write(start + "," + path.length + "," + totalTransitions + "," + repeatedTransitions);
+        if (includePath) {
+            out.write(',');
+            writeNodes(out, path, ' ');
+        }
+        out.write('\n');
+    }
+
+    private static void writeNodes(Writer out, int[] nodes, char separator) throws IOException {
+        for (int i = 0; i < nodes.length; i++) {
+            if (i > 0) out.write(separator);
+            out.write(Integer.toString(nodes[i]));
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    private static int parsePositive(String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) return parsed;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Not a positive number: " + value);
+    }
+
+    private static int parseNonNegative(String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0) return parsed;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Not a non-negative number: " + value);
+    }
+
+    private static int parsePort(String value) {
+        try {
+            int port = Integer.parseInt(value);
+            if (port >= 0 && port <= 65535) return port;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Not a port: " + value);
+    }
+
+    private static int[] parseStarts(String value) {
+        String[] parts = value.split(",");
+        int[] starts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                starts[i] = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a node id: " + parts[i]);
+            }
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example;
+
+/**
+ * Read-only, index-based access to a hypergraph. Node ids are dense {@code 0..getNumNodes()-1},
+ * edge ids are dense {@code 0..getNumEdges()-1}.
+ */
+interface HypergraphView {
+    int getNumNodes();
+    int getNumEdges();
+
+    int getEdgeSize(int edge);
+    int getPin(int edge, int index);
+
+    int getDegree(int node);
+    int getIncidentEdge(int node, int index);
+
+    /** Sorted, deduplicated neighbors of {@code node} (excluding itself). Callers must not modify the array. */
+    int[] getNeighbors(int node);
+}
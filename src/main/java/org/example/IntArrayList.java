@@ -0,0 +1,53 @@
+package org.example;
+
+import java.util.Arrays;
+
+/** Growable list of primitive ints. */
+final class IntArrayList {
+    private int[] elements;
+    private int size;
+
+    IntArrayList() {
+        this(16);
+    }
+
+    IntArrayList(int initialCapacity) {
+        this.elements = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        elements[size++] = value;
+    }
+
+    public int get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        return elements[index];
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public void clear() { size = 0; }
+
+    /** Copies the first {@code length} elements into {@code target} starting at {@code offset}. */
+    public void copyTo(int[] target, int offset, int length) {
+        if (length > size) throw new IndexOutOfBoundsException("Length " + length + " exceeds size " + size);
+        System.arraycopy(elements, 0, target, offset, length);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(elements[i]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,101 @@
+package org.example;
+
+/**
+ * Open-addressing (linear probing) map from primitive long keys to int values, defaulting to 0. Occupied slots
+ * are remembered, so {@link #clear()} costs the number of entries rather than the capacity.
+ */
+final class LongIntHashMap {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private final IntArrayList usedSlots = new IntArrayList();
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    LongIntHashMap() {
+        this(16);
+    }
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 8) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public int get(long key) {
+        if (key == 0L) return hasZeroKey ? zeroValue : 0;
+
+        int slot = slot(key);
+        while (keys[slot] != 0L) {
+            if (keys[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /** Adds one to the value of {@code key} and returns the new value. */
+    public int increment(long key) {
+        if (key == 0L) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return ++zeroValue;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != 0L) {
+            if (keys[slot] == key) return ++values[slot];
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = 1;
+        usedSlots.add(slot);
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length * 2);
+        }
+        return 1;
+    }
+
+    public int size() { return size; }
+
+    public void clear() {
+        if (size == 0) return;
+        for (int i = 0; i < usedSlots.size(); i++) {
+            keys[usedSlots.get(i)] = 0L;
+        }
+        usedSlots.clear();
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new int[newCapacity];
+        mask = newCapacity - 1;
+        usedSlots.clear();
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == 0L) continue;
+            int slot = slot(key);
+            while (keys[slot] != 0L) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+            usedSlots.add(slot);
+        }
+    }
+}
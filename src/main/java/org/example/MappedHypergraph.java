@@ -0,0 +1,195 @@
+package org.example;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only hypergraph served straight from a memory-mapped binary file, without deserialization. Pages are
+ * loaded on demand and shared with other processes mapping the same file through the OS page cache.
+ * <p>
+ * Layout (little-endian, every section starts 8-byte aligned):
+ * <pre>
+ *   header       int magic "HGB1", int version, int numNodes, int numEdges, long numPins, long reserved
+ *   edgeOffsets  long[numEdges + 1]   index of each edge's first pin
+ *   edgePins     int[numPins]         pins of all edges, each edge sorted ascending
+ *   nodeOffsets  long[numNodes + 1]   index of each node's first incident edge
+ *   nodeEdges    int[numPins]         incident edges of all nodes, each node sorted ascending
+ * </pre>
+ * Instances are safe for concurrent readers until {@link #close()} unmaps the file.
+ */
+final class MappedHypergraph implements HypergraphView, AutoCloseable {
+    static final int MAGIC = 0x31424748; // "HGB1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final int numNodes;
+    private final int numEdges;
+    private final long edgeOffsetsBase;
+    private final long edgePinsBase;
+    private final long nodeOffsetsBase;
+    private final long nodeEdgesBase;
+
+    private MappedHypergraph(Arena arena, MemorySegment segment, int numNodes, int numEdges, long numPins) {
+        this.arena = arena;
+        this.segment = segment;
+        this.numNodes = numNodes;
+        this.numEdges = numEdges;
+        this.edgeOffsetsBase = HEADER_BYTES;
+        this.edgePinsBase = edgeOffsetsBase + 8L * (numEdges + 1);
+        this.nodeOffsetsBase = align8(edgePinsBase + 4L * numPins);
+        this.nodeEdgesBase = nodeOffsetsBase + 8L * (numNodes + 1);
+    }
+
+    static MappedHypergraph open(Path file) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException(file + ": not a binary hypergraph (too short)");
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            if (segment.get(INT, 0) != MAGIC) {
+                throw new IOException(file + ": not a binary hypergraph (bad magic)");
+            }
+            if (segment.get(INT, 4) != VERSION) {
+                throw new IOException(file + ": unsupported binary hypergraph version " + segment.get(INT, 4));
+            }
+
+            int numNodes = segment.get(INT, 8);
+            int numEdges = segment.get(INT, 12);
+            long numPins = segment.get(LONG, 16);
+            if (numNodes < 0 || numEdges < 0 || numPins < 0 || size < fileSize(numNodes, numEdges, numPins)) {
+                throw new IOException(file + ": truncated or corrupt binary hypergraph");
+            }
+            return new MappedHypergraph(arena, segment, numNodes, numEdges, numPins);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /** Writes {@code graph} in the layout read by {@link #open(Path)}. */
+    static void write(HypergraphView graph, Path file) throws IOException {
+        int numNodes = graph.getNumNodes();
+        int numEdges = graph.getNumEdges();
+        long numPins = 0;
+        for (int e = 0; e < numEdges; e++) {
+            numPins += graph.getEdgeSize(e);
+        }
+
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MemorySegment out = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    fileSize(numNodes, numEdges, numPins), arena);
+            out.set(INT, 0, MAGIC);
+            out.set(INT, 4, VERSION);
+            out.set(INT, 8, numNodes);
+            out.set(INT, 12, numEdges);
+            out.set(LONG, 16, numPins);
+            out.set(LONG, 24, 0L);
+
+            long offsets = HEADER_BYTES;
+            long pins = offsets + 8L * (numEdges + 1);
+            long pin = 0;
+            for (int e = 0; e < numEdges; e++) {
+                out.set(LONG, offsets + 8L * e, pin);
+                for (int i = 0; i < graph.getEdgeSize(e); i++) {
+                    out.set(INT, pins + 4L * pin++, graph.getPin(e, i));
+                }
+            }
+            out.set(LONG, offsets + 8L * numEdges, pin);
+
+            offsets = align8(pins + 4L * numPins);
+            long edges = offsets + 8L * (numNodes + 1);
+            long incidence = 0;
+            for (int v = 0; v < numNodes; v++) {
+                out.set(LONG, offsets + 8L * v, incidence);
+                for (int i = 0; i < graph.getDegree(v); i++) {
+                    out.set(INT, edges + 4L * incidence++, graph.getIncidentEdge(v, i));
+                }
+            }
+            out.set(LONG, offsets + 8L * numNodes, incidence);
+            out.force();
+        }
+    }
+
+    @Override
+    public int getNumNodes() { return numNodes; }
+
+    @Override
+    public int getNumEdges() { return numEdges; }
+
+    @Override
+    public int getEdgeSize(int edge) {
+        return (int) (edgeOffset(edge + 1) - edgeOffset(edge));
+    }
+
+    @Override
+    public int getPin(int edge, int index) {
+        return segment.get(INT, edgePinsBase + 4L * (edgeOffset(edge) + index));
+    }
+
+    @Override
+    public int getDegree(int node) {
+        return (int) (nodeOffset(node + 1) - nodeOffset(node));
+    }
+
+    @Override
+    public int getIncidentEdge(int node, int index) {
+        return segment.get(INT, nodeEdgesBase + 4L * (nodeOffset(node) + index));
+    }
+
+    @Override
+    public int[] getNeighbors(int node) {
+        long from = nodeOffset(node), to = nodeOffset(node + 1);
+        int total = 0;
+        for (long i = from; i < to; i++) {
+            total += getEdgeSize(segment.get(INT, nodeEdgesBase + 4L * i));
+        }
+
+        int[] buffer = new int[total];
+        int pos = 0;
+        for (long i = from; i < to; i++) {
+            int edge = segment.get(INT, nodeEdgesBase + 4L * i);
+            long start = edgePinsBase + 4L * edgeOffset(edge);
+            int length = getEdgeSize(edge);
+            MemorySegment.copy(segment, INT, start, buffer, pos, length);
+            pos += length;
+        }
+        return NeighborIndex.sortedNeighbors(buffer, total, node);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    private long edgeOffset(int edge) {
+        return segment.get(LONG, edgeOffsetsBase + 8L * edge);
+    }
+
+    private long nodeOffset(int node) {
+        return segment.get(LONG, nodeOffsetsBase + 8L * node);
+    }
+
+    private static long fileSize(int numNodes, int numEdges, long numPins) {
+        long nodeOffsets = align8(HEADER_BYTES + 8L * (numEdges + 1) + 4L * numPins);
+        return nodeOffsets + 8L * (numNodes + 1) + 4L * numPins;
+    }
+
+    private static long align8(long offset) {
+        return (offset + 7) & ~7L;
+    }
+}
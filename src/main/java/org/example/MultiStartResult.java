@@ -0,0 +1,22 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/** Best path found by {@link ParallelTraversalEngine} together with statistics for every start node tried. */
+final class MultiStartResult {
+    private final StartStatistics best;
+    private final int[] bestPath;
+    private final List<StartStatistics> statistics;
+
+    MultiStartResult(StartStatistics best, int[] bestPath, StartStatistics[] statistics) {
+        this.best = best;
+        this.bestPath = bestPath;
+        this.statistics = Collections.unmodifiableList(Arrays.asList(statistics));
+    }
+
+    public StartStatistics getBest() { return best; }
+    public int[] getBestPath() { return bestPath.clone(); }
+    public List<StartStatistics> getStatistics() { return statistics; }
+}
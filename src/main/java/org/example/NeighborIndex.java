@@ -0,0 +1,150 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Bounded cache of per-node neighbor arrays (sorted, deduplicated, excluding the node itself), indexed directly
+ * by node id so lookups neither box nor hash. Once the estimated footprint exceeds the memory budget, entries
+ * are evicted by the clock algorithm: a lookup sets the entry's reference bit, and the clock hand skips (and
+ * clears) referenced entries, approximating least-recently-used order without relinking anything on a hit.
+ * Arrays too large to ever fit are simply not cached. Not thread-safe.
+ */
+final class NeighborIndex {
+    private static final long ENTRY_OVERHEAD_BYTES = 24; // array header + slot bookkeeping
+
+    private final long memoryBudgetBytes;
+    private int[][] entries = new int[0][]; // node -> cached neighbors, or null
+    private int[] slotOf = new int[0]; // node -> position in clock, valid while cached
+    private boolean[] referenced = new boolean[0];
+    private int[] clock = new int[16]; // cached nodes, swept by the hand
+    private int size;
+    private int hand;
+    private long usedBytes;
+
+    NeighborIndex(long memoryBudgetBytes) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    public int[] get(int node) {
+        if (node >= entries.length) return null;
+        int[] neighbors = entries[node];
+        if (neighbors != null) referenced[node] = true;
+        return neighbors;
+    }
+
+    public void put(int node, int[] neighbors) {
+        long cost = cost(neighbors);
+        if (cost > memoryBudgetBytes) {
+            invalidate(node);
+            return;
+        }
+
+        ensureNodes(node + 1);
+        int[] previous = entries[node];
+        if (previous != null) {
+            usedBytes -= cost(previous);
+        } else {
+            if (size == clock.length) clock = Arrays.copyOf(clock, size * 2);
+            slotOf[node] = size;
+            clock[size++] = node;
+        }
+        entries[node] = neighbors;
+        referenced[node] = true;
+        usedBytes += cost;
+        evictToBudget(node);
+    }
+
+    /** Merges a newly added hyperedge (sorted pins) into the cached neighborhoods of its pins. */
+    public void patch(int[] sortedPins) {
+        for (int node : sortedPins) {
+            int[] cached = node < entries.length ? entries[node] : null;
+            if (cached != null) {
+                put(node, mergeExcluding(cached, sortedPins, node));
+            }
+        }
+    }
+
+    public void invalidate(int node) {
+        if (node >= entries.length || entries[node] == null) return;
+        usedBytes -= cost(entries[node]);
+        entries[node] = null;
+        removeSlot(slotOf[node]);
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            entries[clock[i]] = null;
+        }
+        size = 0;
+        hand = 0;
+        usedBytes = 0;
+    }
+
+    public boolean isFull() { return usedBytes >= memoryBudgetBytes; }
+    public int size() { return size; }
+
+    /** Sorts the first {@code length} pins of {@code buffer} in place and returns them deduplicated, without {@code node}. */
+    static int[] sortedNeighbors(int[] buffer, int length, int node) {
+        Arrays.sort(buffer, 0, length);
+
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            int neighbor = buffer[i];
+            if (neighbor != node && (count == 0 || buffer[count - 1] != neighbor)) {
+                buffer[count++] = neighbor;
+            }
+        }
+        return count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+    }
+
+    // Evicts until within budget, sparing `kept` (the entry just stored) unless it is the only one left.
+    private void evictToBudget(int kept) {
+        while (usedBytes > memoryBudgetBytes && size > 1) {
+            if (hand >= size) hand = 0;
+            int node = clock[hand];
+            if (node == kept || referenced[node]) {
+                referenced[node] = false;
+                hand++;
+                continue;
+            }
+            usedBytes -= cost(entries[node]);
+            entries[node] = null;
+            removeSlot(hand);
+        }
+    }
+
+    // Moves the last cached node into the freed position, so the clock stays dense.
+    private void removeSlot(int slot) {
+        int last = clock[--size];
+        clock[slot] = last;
+        slotOf[last] = slot;
+    }
+
+    private void ensureNodes(int numNodes) {
+        if (numNodes <= entries.length) return;
+        int capacity = Math.max(numNodes, entries.length + (entries.length >> 1));
+        entries = Arrays.copyOf(entries, capacity);
+        slotOf = Arrays.copyOf(slotOf, capacity);
+        referenced = Arrays.copyOf(referenced, capacity);
+    }
+
+    private static long cost(int[] neighbors) {
+        return ENTRY_OVERHEAD_BYTES + 4L * neighbors.length;
+    }
+
+    private static int[] mergeExcluding(int[] a, int[] b, int excluded) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length || j < b.length) {
+            int next;
+            if (j == b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+                if (j < b.length && b[j] == next) j++;
+            } else {
+                next = b[j++];
+            }
+            if (next != excluded) merged[k++] = next;
+        }
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+}
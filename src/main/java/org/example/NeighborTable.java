@@ -0,0 +1,52 @@
+package org.example;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only snapshot view with every node's neighbors computed once up front, so any number of traversals on any
+ * threads share one copy instead of each recomputing or caching them. Neighbors are kept as one array per node
+ * rather than one flat array, so {@link #getNeighbors} hands out the stored array without copying. The wrapped
+ * snapshot must not change.
+ */
+final class NeighborTable implements HypergraphView {
+    private final HypergraphView graph;
+    private final int[][] neighbors;
+
+    private NeighborTable(HypergraphView graph, int[][] neighbors) {
+        this.graph = graph;
+        this.neighbors = neighbors;
+    }
+
+    static NeighborTable build(HypergraphView graph, ForkJoinPool pool) {
+        if (graph instanceof NeighborTable table) return table;
+        int[][] neighbors = new int[graph.getNumNodes()][];
+        pool.submit(() -> IntStream.range(0, neighbors.length).parallel()
+                .forEach(node -> neighbors[node] = graph.getNeighbors(node))).join();
+        return new NeighborTable(graph, neighbors);
+    }
+
+    /** The wrapped snapshot. */
+    public HypergraphView getGraph() { return graph; }
+
+    @Override
+    public int getNumNodes() { return graph.getNumNodes(); }
+
+    @Override
+    public int getNumEdges() { return graph.getNumEdges(); }
+
+    @Override
+    public int getEdgeSize(int edge) { return graph.getEdgeSize(edge); }
+
+    @Override
+    public int getPin(int edge, int index) { return graph.getPin(edge, index); }
+
+    @Override
+    public int getDegree(int node) { return graph.getDegree(node); }
+
+    @Override
+    public int getIncidentEdge(int node, int index) { return graph.getIncidentEdge(node, index); }
+
+    @Override
+    public int[] getNeighbors(int node) { return neighbors[node]; }
+}
@@ -0,0 +1,168 @@
+package org.example;
+
+/** Built-in {@link NextNodeStrategy} implementations. All scan the neighbor array in place without allocating. */
+final class NextNodeStrategies {
+    /** The original heuristic: the unvisited neighbor with the most unvisited neighbors of its own. */
+    static final NextNodeStrategy GREEDY = new Greedy();
+
+    /** Cheapest choice: the lowest-numbered unvisited neighbor. */
+    static final NextNodeStrategy FIRST_UNVISITED = new FirstUnvisited();
+
+    /** The unvisited neighbor on the fewest hyperedges, so low-degree dead ends are cleared before hubs. */
+    static final NextNodeStrategy DEGREE_ORDERED = new DegreeOrdered();
+
+    /**
+     * Warnsdorff's rule with one step of lookahead: the unvisited neighbor with the fewest unvisited neighbors,
+     * ties broken by the fewest onward moves from those neighbors. Costs a second neighborhood scan per candidate.
+     */
+    static final NextNodeStrategy LOOKAHEAD = new Lookahead();
+
+    private NextNodeStrategies() {}
+
+    /** A uniformly random unvisited neighbor, reproducible for a given seed. */
+    static NextNodeStrategy random(long seed) {
+        return new RandomUnvisited(seed);
+    }
+
+    /**
+     * Resolves {@code greedy}, {@code first-unvisited}, {@code degree-ordered}, {@code lookahead} or
+     * {@code random[:SEED]}.
+     */
+    static NextNodeStrategy byName(String name) {
+        switch (name) {
+            case "greedy": return GREEDY;
+            case "first-unvisited": return FIRST_UNVISITED;
+            case "degree-ordered": return DEGREE_ORDERED;
+            case "lookahead": return LOOKAHEAD;
+            case "random": return random(0);
+            default:
+                if (name.startsWith("random:")) {
+                    try {
+                        return random(Long.parseLong(name.substring("random:".length())));
+                    } catch (NumberFormatException ignored) {
+                    }
+                }
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    private static final class Greedy implements NextNodeStrategy {
+        @Override
+        public String name() { return "greedy"; }
+
+        @Override
+        public int selectUnvisited(int current, int[] neighbors, TraversalState state) {
+            int best = -1;
+            int maxUnvisitedNeighbors = 0;
+            for (int candidate : neighbors) {
+                if (state.isVisited(candidate)) continue;
+                if (best == -1) best = candidate;
+
+                int unvisitedCount = state.getUnvisitedDegree(candidate);
+                if (unvisitedCount > maxUnvisitedNeighbors) {
+                    maxUnvisitedNeighbors = unvisitedCount;
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+    }
+
+    private static final class FirstUnvisited implements NextNodeStrategy {
+        @Override
+        public String name() { return "first-unvisited"; }
+
+        @Override
+        public int selectUnvisited(int current, int[] neighbors, TraversalState state) {
+            for (int candidate : neighbors) {
+                if (!state.isVisited(candidate)) return candidate;
+            }
+            return -1;
+        }
+    }
+
+    private static final class DegreeOrdered implements NextNodeStrategy {
+        @Override
+        public String name() { return "degree-ordered"; }
+
+        @Override
+        public int selectUnvisited(int current, int[] neighbors, TraversalState state) {
+            HypergraphView graph = state.getGraph();
+            int best = -1;
+            int minDegree = Integer.MAX_VALUE;
+            for (int candidate : neighbors) {
+                if (state.isVisited(candidate)) continue;
+                int degree = graph.getDegree(candidate);
+                if (degree < minDegree) {
+                    minDegree = degree;
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+    }
+
+    private static final class Lookahead implements NextNodeStrategy {
+        @Override
+        public String name() { return "lookahead"; }
+
+        @Override
+        public int getLookahead() { return 1; }
+
+        @Override
+        public int selectUnvisited(int current, int[] neighbors, TraversalState state) {
+            int best = -1;
+            int minUnvisited = Integer.MAX_VALUE;
+            long minOnward = Long.MAX_VALUE;
+            for (int candidate : neighbors) {
+                if (state.isVisited(candidate)) continue;
+                int unvisited = state.getUnvisitedDegree(candidate);
+                if (unvisited > minUnvisited) continue;
+
+                long onward = 0;
+                for (int next : state.getNeighbors(candidate)) {
+                    if (!state.isVisited(next)) onward += state.getUnvisitedDegree(next);
+                }
+                if (unvisited < minUnvisited || onward < minOnward) {
+                    minUnvisited = unvisited;
+                    minOnward = onward;
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+    }
+
+    private static final class RandomUnvisited implements NextNodeStrategy {
+        private final long seed;
+        private final String name;
+
+        RandomUnvisited(long seed) {
+            this.seed = seed;
+            this.name = "random:" + seed;
+        }
+
+        @Override
+        public String name() { return name; }
+
+        @Override
+        public int selectUnvisited(int current, int[] neighbors, TraversalState state) {
+            int unvisited = 0;
+            for (int candidate : neighbors) {
+                if (!state.isVisited(candidate)) unvisited++;
+            }
+            if (unvisited == 0) return -1;
+
+            // Derive the choice from the walk position instead of keeping a generator, so the strategy stays
+            // stateless and a repeated traversal picks the same path.
+            long h = seed ^ ((long) current << 32 | state.getVisitedCount());
+            h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+            h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            int pick = (int) Long.remainderUnsigned(h ^ (h >>> 33), unvisited);
+            for (int candidate : neighbors) {
+                if (!state.isVisited(candidate) && pick-- == 0) return candidate;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example;
+
+/**
+ * Picks where a walk goes next while the current node still has unvisited neighbors; once they are all visited
+ * {@link HypergraphTraversal} falls back to its least-used transition. Implementations are stateless, so one
+ * instance can serve any number of traversals on any threads, and must not allocate per call.
+ * See {@link NextNodeStrategies} for the built-in ones.
+ */
+interface NextNodeStrategy {
+    /** Stable identifier, used for example as part of {@link TraversalCache} keys. */
+    String name();
+
+    /**
+     * Returns one of the unvisited nodes in {@code neighbors} (the sorted neighbors of {@code current}), or
+     * {@code -1} if all of them are visited.
+     */
+    int selectUnvisited(int current, int[] neighbors, TraversalState state);
+
+    /**
+     * How many hops beyond the neighbors of the current node the choice looks at. {@link HypergraphTraversal#repair}
+     * widens the region it re-walks accordingly.
+     */
+    default int getLookahead() { return 0; }
+}
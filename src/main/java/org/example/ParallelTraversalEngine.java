@@ -0,0 +1,212 @@
+package org.example;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Runs the greedy traversal from many start nodes, or once per connected component, in parallel over one shared
+ * read-only graph. Leaf tasks borrow a {@link HypergraphTraversal} from a pool owned by the engine and return it
+ * when done, so scratch state is allocated about once per worker and is released with the engine rather than
+ * left behind on the pool's threads. An optional configurer sets up each traversal (jump search, budgets) when
+ * it is created.
+ * Pass a {@link NeighborTable} so that the workers share one set of precomputed neighbors.
+ */
+final class ParallelTraversalEngine {
+    private static final int SEQUENTIAL_THRESHOLD = 4;
+    private static final int COMPONENT_NODES_PER_TASK = 4096;
+
+    private final HypergraphView graph;
+    private final ForkJoinPool pool;
+    private final NextNodeStrategy strategy;
+    private final ConnectedComponents components;
+    private final Consumer<HypergraphTraversal> configurer;
+    private final ConcurrentLinkedQueue<HypergraphTraversal> idle = new ConcurrentLinkedQueue<>();
+
+    ParallelTraversalEngine(HypergraphView graph) {
+        this(graph, ForkJoinPool.commonPool(), NextNodeStrategies.GREEDY);
+    }
+
+    ParallelTraversalEngine(HypergraphView graph, ForkJoinPool pool, NextNodeStrategy strategy) {
+        this(graph, pool, strategy, traversal -> {});
+    }
+
+    ParallelTraversalEngine(HypergraphView graph, ForkJoinPool pool, NextNodeStrategy strategy,
+                            Consumer<HypergraphTraversal> configurer) {
+        this.graph = graph;
+        this.pool = pool;
+        this.strategy = strategy;
+        this.components = ConnectedComponents.compute(graph, pool);
+        this.configurer = configurer;
+    }
+
+    public MultiStartResult runAll() {
+        int[] startNodes = new int[graph.getNumNodes()];
+        for (int i = 0; i < startNodes.length; i++) {
+            startNodes[i] = i;
+        }
+        return run(startNodes);
+    }
+
+    public MultiStartResult run(int[] startNodes) {
+        if (startNodes.length == 0) {
+            throw new IllegalArgumentException("No start nodes given");
+        }
+        for (int start : startNodes) {
+            if (start < 0 || start >= graph.getNumNodes()) {
+                throw new IllegalArgumentException("Start node out of range: " + start);
+            }
+        }
+
+        StartStatistics[] statistics = new StartStatistics[startNodes.length];
+        Best best = pool.invoke(new MultiStartTask(startNodes, statistics, 0, startNodes.length));
+        return new MultiStartResult(best.statistics, best.path, statistics);
+    }
+
+    /**
+     * Walks every connected component once, starting at its lowest node, with components spread over the pool.
+     * Each walk stops when its component is covered, so together the paths visit every node of the graph.
+     */
+    public ComponentTraversalResult runPerComponent() {
+        int numComponents = components.getNumComponents();
+        int[] startNodes = new int[numComponents];
+        int next = 0;
+        for (int v = 0; v < graph.getNumNodes() && next < numComponents; v++) {
+            if (components.getComponent(v) == next) {
+                startNodes[next++] = v;
+            }
+        }
+
+        long[] nodesBefore = new long[numComponents + 1];
+        for (int c = 0; c < numComponents; c++) {
+            nodesBefore[c + 1] = nodesBefore[c] + components.getComponentSize(c);
+        }
+
+        TraversalResult[] results = new TraversalResult[numComponents];
+        pool.invoke(new ComponentTask(startNodes, nodesBefore, results, 0, numComponents));
+        return new ComponentTraversalResult(components, results);
+    }
+
+    public ConnectedComponents getComponents() { return components; }
+
+    private HypergraphTraversal acquire() {
+        HypergraphTraversal traversal = idle.poll();
+        if (traversal == null) {
+            traversal = new HypergraphTraversal(graph);
+            traversal.setComponents(components);
+            configurer.accept(traversal);
+        }
+        return traversal;
+    }
+
+    private void release(HypergraphTraversal traversal) {
+        idle.offer(traversal);
+    }
+
+    private static final class Best {
+        final StartStatistics statistics;
+        final int[] path;
+
+        Best(StartStatistics statistics, int[] path) {
+            this.statistics = statistics;
+            this.path = path;
+        }
+
+        Best pick(Best other) {
+            return other.statistics.isBetterThan(statistics) ? other : this;
+        }
+    }
+
+    private final class MultiStartTask extends RecursiveTask<Best> {
+        private final int[] startNodes;
+        private final StartStatistics[] statistics;
+        private final int from, to;
+
+        MultiStartTask(int[] startNodes, StartStatistics[] statistics, int from, int to) {
+            this.startNodes = startNodes;
+            this.statistics = statistics;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Best compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                HypergraphTraversal traversal = acquire();
+                try {
+                    Best best = null;
+                    for (int i = from; i < to; i++) {
+                        int[] path = traversal.traversePath(startNodes[i], strategy);
+                        statistics[i] = new StartStatistics(startNodes[i], path.length,
+                                traversal.getTotalTransitions(), traversal.getRepeatedTransitions());
+                        Best candidate = new Best(statistics[i], path);
+                        best = best == null ? candidate : best.pick(candidate);
+                    }
+                    return best;
+                } finally {
+                    release(traversal);
+                }
+            }
+
+            int mid = (from + to) >>> 1;
+            MultiStartTask left = new MultiStartTask(startNodes, statistics, from, mid);
+            left.fork();
+            Best right = new MultiStartTask(startNodes, statistics, mid, to).compute();
+            return left.join().pick(right);
+        }
+    }
+
+    /** Splits component ranges by node count, so many tiny components share a task and large ones get their own. */
+    private final class ComponentTask extends RecursiveAction {
+        private final int[] startNodes;
+        private final long[] nodesBefore;
+        private final TraversalResult[] results;
+        private final int from, to;
+
+        ComponentTask(int[] startNodes, long[] nodesBefore, TraversalResult[] results, int from, int to) {
+            this.startNodes = startNodes;
+            this.nodesBefore = nodesBefore;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1 || nodesBefore[to] - nodesBefore[from] <= COMPONENT_NODES_PER_TASK) {
+                HypergraphTraversal traversal = null;
+                try {
+                    for (int c = from; c < to; c++) {
+                        if (components.getComponentSize(c) == 1) {
+                            results[c] = singleton(startNodes[c]);
+                            continue;
+                        }
+                        if (traversal == null) traversal = acquire();
+                        results[c] = traversal.traverseWithResult(startNodes[c], strategy);
+                    }
+                } finally {
+                    if (traversal != null) release(traversal);
+                }
+                return;
+            }
+
+            // Split at the component holding the middle node, keeping both halves non-empty.
+            long middle = (nodesBefore[from] + nodesBefore[to]) >>> 1;
+            int mid = from + 1;
+            while (mid < to - 1 && nodesBefore[mid + 1] <= middle) {
+                mid++;
+            }
+            invokeAll(new ComponentTask(startNodes, nodesBefore, results, from, mid),
+                    new ComponentTask(startNodes, nodesBefore, results, mid, to));
+        }
+
+        private TraversalResult singleton(int start) {
+            TraversalResult.Termination termination = graph.getNumNodes() == 1
+                    ? TraversalResult.Termination.ALL_VISITED
+                    : TraversalResult.Termination.REACHABLE_VISITED;
+            return new TraversalResult(start, new int[] {start}, 1, 1, graph.getNumNodes(), 0, 0, termination);
+        }
+    }
+}
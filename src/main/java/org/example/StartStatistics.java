@@ -0,0 +1,34 @@
+package org.example;
+
+/** Outcome of one greedy traversal started from {@link #getStartNode()}. */
+final class StartStatistics {
+    private final int startNode;
+    private final int pathLength;
+    private final int totalTransitions;
+    private final int repeatedTransitions;
+
+    StartStatistics(int startNode, int pathLength, int totalTransitions, int repeatedTransitions) {
+        this.startNode = startNode;
+        this.pathLength = pathLength;
+        this.totalTransitions = totalTransitions;
+        this.repeatedTransitions = repeatedTransitions;
+    }
+
+    public int getStartNode() { return startNode; }
+    public int getPathLength() { return pathLength; }
+    public int getTotalTransitions() { return totalTransitions; }
+    public int getRepeatedTransitions() { return repeatedTransitions; }
+
+    /** Fewer repeated transitions first, then shorter paths, then lower start node. */
+    boolean isBetterThan(StartStatistics other) {
+        if (repeatedTransitions != other.repeatedTransitions) return repeatedTransitions < other.repeatedTransitions;
+        if (pathLength != other.pathLength) return pathLength < other.pathLength;
+        return startNode < other.startNode;
+    }
+
+    @Override
+    public String toString() {
+        return "start=" + startNode + " length=" + pathLength
+                + " transitions=" + totalTransitions + " repeated=" + repeatedTransitions;
+    }
+}
@@ -0,0 +1,158 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of traversal results keyed by graph version, start node and strategy name, in the W-TinyLFU
+ * style. Each entry keeps the path together with its transition counts, so a hit is served without rescanning
+ * the path. New results enter a small LRU window (1% of the weight budget). Results leaving the window are only
+ * admitted to the main LRU region if a frequency sketch says they are requested more often than the entries
+ * they would displace, so one-off queries cannot flush popular ones. Weight is the approximate heap size of the
+ * stored paths. Storing a result for a newer graph version drops everything cached for older versions.
+ * <p>
+ * Thread-safe; lookups and updates synchronize on the cache, hit/miss counters do not.
+ */
+final class TraversalCache {
+    private static final long ENTRY_OVERHEAD_BYTES = 112; // map entry, key, result and path header
+    private static final int WINDOW_PERCENT = 1;
+
+    private final long maxWeightBytes;
+    private final long windowWeightBytes;
+    private final LinkedHashMap<Key, TraversalResult> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Key, TraversalResult> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long windowWeight;
+    private long mainWeight;
+    private long version = Long.MIN_VALUE;
+
+    TraversalCache(long maxWeightBytes) {
+        if (maxWeightBytes <= 0) {
+            throw new IllegalArgumentException("Cache weight must be positive: " + maxWeightBytes);
+        }
+        this.maxWeightBytes = maxWeightBytes;
+        this.windowWeightBytes = Math.max(maxWeightBytes * WINDOW_PERCENT / 100, 1);
+        this.sketch = new FrequencySketch((int) Math.min(maxWeightBytes / 256, 1 << 22));
+    }
+
+    /** Returns the cached result, or {@code null}. Its path is shared and must not be modified. */
+    public TraversalResult get(long graphVersion, int start, String strategy) {
+        Key key = new Key(graphVersion, start, strategy);
+        TraversalResult result;
+        synchronized (this) {
+            sketch.increment(key.hashCode());
+            result = null;
+            if (graphVersion == version) {
+                result = window.get(key);
+                if (result == null) result = main.get(key);
+            }
+        }
+        (result == null ? misses : hits).increment();
+        return result;
+    }
+
+    /**
+     * Stores {@code result}, whose path the cache takes ownership of. Results for versions older than the newest
+     * one seen are ignored.
+     */
+    public synchronized void put(long graphVersion, int start, String strategy, TraversalResult result) {
+        if (graphVersion < version) return;
+        if (graphVersion > version) {
+            invalidate();
+            version = graphVersion;
+        }
+
+        Key key = new Key(graphVersion, start, strategy);
+        long weight = weigh(result);
+        TraversalResult previous = window.remove(key);
+        if (previous != null) windowWeight -= weigh(previous);
+        previous = main.remove(key);
+        if (previous != null) mainWeight -= weigh(previous);
+        if (weight > maxWeightBytes - windowWeightBytes) return;
+
+        window.put(key, result);
+        windowWeight += weight;
+        Iterator<Map.Entry<Key, TraversalResult>> it = window.entrySet().iterator();
+        while (windowWeight > windowWeightBytes && it.hasNext()) {
+            Map.Entry<Key, TraversalResult> candidate = it.next();
+            it.remove();
+            windowWeight -= weigh(candidate.getValue());
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    /** Moves a result evicted from the window into the main region if it wins against the entries it displaces. */
+    private void admit(Key key, TraversalResult result) {
+        long weight = weigh(result);
+        long budget = maxWeightBytes - windowWeightBytes;
+        if (weight > budget) return;
+
+        int candidateFrequency = sketch.frequency(key.hashCode());
+        List<Key> victims = new ArrayList<>();
+        long freed = 0;
+        for (Map.Entry<Key, TraversalResult> entry : main.entrySet()) {
+            if (mainWeight - freed + weight <= budget) break;
+            if (sketch.frequency(entry.getKey().hashCode()) >= candidateFrequency) return;
+            victims.add(entry.getKey());
+            freed += weigh(entry.getValue());
+        }
+
+        for (Key victim : victims) {
+            main.remove(victim);
+        }
+        mainWeight -= freed;
+        main.put(key, result);
+        mainWeight += weight;
+    }
+
+    public synchronized void invalidate() {
+        window.clear();
+        main.clear();
+        windowWeight = 0;
+        mainWeight = 0;
+    }
+
+    public synchronized int size() { return window.size() + main.size(); }
+    public synchronized long getWeightBytes() { return windowWeight + mainWeight; }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private static long weigh(TraversalResult result) {
+        return ENTRY_OVERHEAD_BYTES + 4L * result.getPath().length;
+    }
+
+    private static final class Key {
+        final long version;
+        final int start;
+        final String strategy;
+
+        Key(long version, int start, String strategy) {
+            this.version = version;
+            this.start = start;
+            this.strategy = strategy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) return false;
+            return version == other.version && start == other.start && strategy.equals(other.strategy);
+        }
+
+        @Override
+        public int hashCode() {
+            return (Long.hashCode(version) * 31 + start) * 31 + strategy.hashCode();
+        }
+    }
+}
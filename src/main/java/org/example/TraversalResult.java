@@ -0,0 +1,62 @@
+package org.example;
+
+/** Path and coverage of one walk, and why it stopped. */
+final class TraversalResult {
+    enum Termination {
+        /** Every node of the graph was visited. */
+        ALL_VISITED,
+        /** Every node reachable from the start was visited; the rest of the graph is disconnected from it. */
+        REACHABLE_VISITED,
+        /** The walk used up its {@link HypergraphTraversal#setMaxSteps step budget}. */
+        MAX_STEPS,
+        /** The walk ran out of its {@link HypergraphTraversal#setTimeLimit time budget}. */
+        TIME_LIMIT
+    }
+
+    private final int startNode;
+    private final int[] path;
+    private final int visitedNodes;
+    private final int reachableNodes;
+    private final int numNodes;
+    private final int totalTransitions;
+    private final int repeatedTransitions;
+    private final Termination termination;
+
+    TraversalResult(int startNode, int[] path, int visitedNodes, int reachableNodes, int numNodes,
+                    int totalTransitions, int repeatedTransitions, Termination termination) {
+        this.startNode = startNode;
+        this.path = path;
+        this.visitedNodes = visitedNodes;
+        this.reachableNodes = reachableNodes;
+        this.numNodes = numNodes;
+        this.totalTransitions = totalTransitions;
+        this.repeatedTransitions = repeatedTransitions;
+        this.termination = termination;
+    }
+
+    public int getStartNode() { return startNode; }
+    public int[] getPath() { return path; }
+    public int getVisitedNodes() { return visitedNodes; }
+    public int getReachableNodes() { return reachableNodes; }
+    public int getNumNodes() { return numNodes; }
+    public int getTotalTransitions() { return totalTransitions; }
+    public int getRepeatedTransitions() { return repeatedTransitions; }
+    public Termination getTermination() { return termination; }
+
+    /** Share of all graph nodes that were visited. */
+    public double getCoverage() { return numNodes == 0 ? 1.0 : (double) visitedNodes / numNodes; }
+
+    /** Share of the nodes reachable from the start that were visited. */
+    public double getReachableCoverage() { return (double) visitedNodes / reachableNodes; }
+
+    /** Whether the walk stopped because there was nothing left to visit rather than on a budget. */
+    public boolean isComplete() {
+        return termination == Termination.ALL_VISITED || termination == Termination.REACHABLE_VISITED;
+    }
+
+    @Override
+    public String toString() {
+        return "start=" + startNode + " visited=" + visitedNodes + "/" + numNodes + " reachable=" + reachableNodes
+                + " transitions=" + totalTransitions + " repeated=" + repeatedTransitions + " termination=" + termination;
+    }
+}
@@ -0,0 +1,204 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Loopback HTTP endpoint for traversal queries: {@code GET /traverse?start=N[&strategy=S][&path=false]} answers
+ * with the same JSON object the CLI prints per line. Every exchange runs on its own virtual thread against one shared
+ * read-only graph. Traversal scratch state is pooled and at most {@code maxConcurrent} traversals run at once,
+ * so a burst of requests waits for a free instance instead of allocating node-sized arrays per request.
+ * Identical queries that arrive while one is running share its result, and an optional {@link TraversalCache}
+ * answers repeated queries without traversing; the served graph never changes, so all entries share one version.
+ * An optional configurer sets jump search and budgets on every pooled traversal; walks cut short by a budget
+ * are answered but never cached. Serve a {@link NeighborTable} so that pooled traversals share precomputed neighbors.
+ */
+final class TraversalServer {
+    private static final long GRAPH_VERSION = 0;
+
+    private final HypergraphView graph;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final TraversalCache cache;
+    private final ConnectedComponents components;
+    private final Consumer<HypergraphTraversal> configurer;
+    private final SingleFlight<String, TraversalResult> flights = new SingleFlight<>();
+    private final ConcurrentLinkedQueue<HypergraphTraversal> idle = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    TraversalServer(HypergraphView graph, int port) throws IOException {
+        this(graph, port, Runtime.getRuntime().availableProcessors(), null);
+    }
+
+    TraversalServer(HypergraphView graph, int port, int maxConcurrent, TraversalCache cache) throws IOException {
+        this(graph, port, maxConcurrent, cache, traversal -> {});
+    }
+
+    TraversalServer(HypergraphView graph, int port, int maxConcurrent, TraversalCache cache,
+                    Consumer<HypergraphTraversal> configurer) throws IOException {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive: " + maxConcurrent);
+        }
+        this.graph = graph;
+        this.permits = new Semaphore(maxConcurrent);
+        this.cache = cache;
+        this.components = ConnectedComponents.compute(graph);
+        this.configurer = configurer;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/traverse", this::handleTraverse);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** The bound port, useful when the server was created with port 0. */
+    public int getPort() { return server.getAddress().getPort(); }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+        stopped.countDown();
+    }
+
+    public void awaitStop() throws InterruptedException {
+        stopped.await();
+    }
+
+    /** Runs one traversal (or joins an identical one in flight) and returns its result as a JSON line. */
+    String traverse(int start, NextNodeStrategy strategy, boolean includePath) throws IOException {
+        TraversalResult result = cache != null ? cache.get(GRAPH_VERSION, start, strategy.name()) : null;
+        if (result == null) {
+            result = flights.execute(strategy.name() + "@" + start, () -> compute(start, strategy));
+        }
+
+        StringWriter out = new StringWriter();
+        HypergraphTraversalCli.writeJson(out, start, result.getPath(), result.getTotalTransitions(),
+                result.getRepeatedTransitions(), includePath);
+        return out.toString();
+    }
+
+    private TraversalResult compute(int start, NextNodeStrategy strategy) {
+        permits.acquireUninterruptibly();
+        HypergraphTraversal traversal = idle.poll();
+        try {
+            if (traversal == null) {
+                traversal = new HypergraphTraversal(graph);
+                traversal.setComponents(components);
+                configurer.accept(traversal);
+            }
+            TraversalResult result = traversal.traverseWithResult(start, strategy);
+            if (cache != null && result.isComplete()) {
+                cache.put(GRAPH_VERSION, start, strategy.name(), result);
+            }
+            return result;
+        } finally {
+            if (traversal != null) {
+                idle.offer(traversal);
+            }
+            permits.release();
+        }
+    }
+
+    /** Number of requests that shared another request's in-flight traversal. */
+    public long getCoalescedRequests() { return flights.getCoalesced(); }
+
+    private void handleTraverse(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                respond(exchange, 405, error("Method not allowed"));
+                return;
+            }
+
+            int start;
+            NextNodeStrategy strategy;
+            boolean includePath;
+            try {
+                Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+                start = parseStart(params.get("start"));
+                strategy = NextNodeStrategies.byName(params.getOrDefault("strategy", "greedy"));
+                includePath = !"false".equals(params.get("path"));
+            } catch (IllegalArgumentException e) {
+                respond(exchange, 400, error(e.getMessage()));
+                return;
+            }
+            respond(exchange, 200, traverse(start, strategy, includePath));
+        }
+    }
+
+    private int parseStart(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing start parameter");
+        }
+        int start;
+        try {
+            start = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a node id: " + value);
+        }
+        if (start < 0 || start >= graph.getNumNodes()) {
+            throw new IllegalArgumentException("Start node out of range: " + start);
+        }
+        return start;
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) return params;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":\"");
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) json.append(String.format("\\u%04x", (int) c));
+                    else json.append(c);
+                }
+            }
+        }
+        return json.append("\"}\n").toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
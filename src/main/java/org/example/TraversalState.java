@@ -0,0 +1,18 @@
+package org.example;
+
+/** Read-only view of a walk in progress, handed to a {@link NextNodeStrategy}. */
+interface TraversalState {
+    HypergraphView getGraph();
+
+    /** Sorted, deduplicated neighbors of {@code node}, served from the traversal's cache. Must not be modified. */
+    int[] getNeighbors(int node);
+
+    boolean isVisited(int node);
+    int getVisitedCount();
+
+    /** Number of neighbors of {@code node} that are not visited yet. */
+    int getUnvisitedDegree(int node);
+
+    /** How many times the walk has moved from {@code from} to {@code to} so far. */
+    int getTransitionCount(int from, int to);
+}
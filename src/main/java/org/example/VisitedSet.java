@@ -0,0 +1,48 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Bitset over dense node ids {@code 0..capacity-1}. Each 64-bit word carries a generation stamp, so
+ * {@link #clear()} only bumps the generation and stale words are zeroed lazily on first write.
+ */
+final class VisitedSet {
+    private final long[] words;
+    private final int[] wordGenerations;
+    private int generation = 1;
+    private int size;
+
+    VisitedSet(int capacity) {
+        int numWords = (capacity + 63) >>> 6;
+        this.words = new long[numWords];
+        this.wordGenerations = new int[numWords];
+    }
+
+    public boolean add(int node) {
+        int w = node >>> 6;
+        if (wordGenerations[w] != generation) {
+            wordGenerations[w] = generation;
+            words[w] = 0L;
+        }
+        long bit = 1L << node;
+        if ((words[w] & bit) != 0) return false;
+        words[w] |= bit;
+        size++;
+        return true;
+    }
+
+    public boolean contains(int node) {
+        int w = node >>> 6;
+        return wordGenerations[w] == generation && (words[w] & (1L << node)) != 0;
+    }
+
+    public int size() { return size; }
+
+    public void clear() {
+        size = 0;
+        if (++generation == 0) {
+            Arrays.fill(wordGenerations, 0);
+            generation = 1;
+        }
+    }
+}
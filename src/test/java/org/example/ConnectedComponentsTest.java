@@ -0,0 +1,43 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConnectedComponentsTest {
+
+    @Test
+    void parallelMatchesSequential() {
+        Random random = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 30; round++) {
+                int numNodes = 1 + random.nextInt(5000);
+                // Few edges per node leave many components of varied sizes, including isolated nodes.
+                CompactHypergraph graph = TestGraphs.randomGraph(random, numNodes, random.nextInt(numNodes), 4);
+
+                ConnectedComponents sequential = ConnectedComponents.compute(graph);
+                ConnectedComponents parallel = ConnectedComponents.compute(graph, pool);
+                assertArrayEquals(sequential.getComponentIds(), parallel.getComponentIds(), "round " + round);
+                assertArrayEquals(sequential.getComponentSizes(), parallel.getComponentSizes(), "round " + round);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void componentsAreNumberedByLowestNode() {
+        int[] offsets = {0, 2, 4, 5};
+        int[] pins = {3, 1, 4, 0, 2};
+        ConnectedComponents components = ConnectedComponents.compute(new CompactHypergraph(6, offsets, pins));
+
+        assertArrayEquals(new int[] {0, 1, 2, 1, 0, 3}, components.getComponentIds());
+        assertArrayEquals(new int[] {2, 2, 1, 1}, components.getComponentSizes());
+        assertEquals(0, components.getLargestComponent());
+    }
+}
@@ -0,0 +1,71 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HyperedgeTest {
+
+    @Test
+    void intersectMatchesNaiveForSimilarSizes() {
+        Random random = new Random(1);
+        for (int round = 0; round < 2000; round++) {
+            int[] a = randomPins(random, random.nextInt(20), 40);
+            int[] b = randomPins(random, random.nextInt(20), 40);
+            assertIntersection(a, b);
+        }
+    }
+
+    @Test
+    void intersectMatchesNaiveWhenGalloping() {
+        Random random = new Random(2);
+        for (int round = 0; round < 2000; round++) {
+            int[] large = randomPins(random, 100 + random.nextInt(200), 1000);
+            // At most 1/8 of the large side, so the galloping branch runs; half the pins are taken from it.
+            int[] small = new int[1 + random.nextInt(large.length / 9)];
+            for (int i = 0; i < small.length; i++) {
+                small[i] = random.nextBoolean() ? large[random.nextInt(large.length)] : random.nextInt(1000);
+            }
+            assertIntersection(large, dedupSorted(small));
+        }
+    }
+
+    @Test
+    void gallopingFindsMatchesAtTheArrayEnds() {
+        int[] large = new int[100];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = 2 * i;
+        }
+        assertIntersection(large, new int[] {0});
+        assertIntersection(large, new int[] {198});
+        assertIntersection(large, new int[] {0, 198});
+        assertIntersection(large, new int[] {-1, 0, 1, 197, 198, 199});
+        assertIntersection(large, new int[] {199, 500});
+    }
+
+    private static void assertIntersection(int[] a, int[] b) {
+        int[] expected = Arrays.stream(a).filter(node -> Arrays.binarySearch(b, node) >= 0).toArray();
+        Hyperedge first = new Hyperedge(0, a), second = new Hyperedge(1, b);
+        String label = Arrays.toString(a) + " & " + Arrays.toString(b);
+        assertArrayEquals(expected, first.intersect(second), label);
+        assertArrayEquals(expected, second.intersect(first), label);
+        assertEquals(expected.length, first.overlapSize(second), label);
+        assertEquals(expected.length, second.overlapSize(first), label);
+    }
+
+    private static int[] randomPins(Random random, int count, int bound) {
+        int[] pins = new int[count];
+        for (int i = 0; i < count; i++) {
+            pins[i] = random.nextInt(bound);
+        }
+        return dedupSorted(pins);
+    }
+
+    private static int[] dedupSorted(int[] pins) {
+        return Arrays.stream(pins).sorted().distinct().toArray();
+    }
+}
@@ -0,0 +1,147 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HypergraphParserTest {
+    private static final int[] THREADS = {1, 2, 3, 8};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void chunkedParseMatchesSourceForAnyThreadCount() throws IOException {
+        Random random = new Random(11);
+        for (int round = 0; round < 40; round++) {
+            boolean patoh = round % 2 == 1;
+            CompactHypergraph expected =
+                    TestGraphs.randomGraph(random, 1 + random.nextInt(300), random.nextInt(400), 6);
+            Path file = dir.resolve("g" + round + (patoh ? ".patoh" : ".hgr"));
+            Files.writeString(file, patoh ? toPatoh(expected, random) : toHmetis(expected, random));
+
+            for (int threads : THREADS) {
+                CompactHypergraph parsed = new HypergraphParser(HypergraphParser.formatOf(file), threads).parse(file);
+                assertSameGraph(expected, parsed, file.getFileName() + " with " + threads + " threads");
+            }
+        }
+    }
+
+    @Test
+    void malformedInputKeepsItsLocationForAnyThreadCount() throws IOException {
+        // Enough valid lines that the bad one lands in a later chunk when the data section is split.
+        StringBuilder lines = new StringBuilder();
+        for (int e = 0; e < 200; e++) {
+            lines.append(e % 50 + 1).append(' ').append(e % 50 + 2).append('\n');
+        }
+        Path badCharacter = dir.resolve("character.hgr");
+        Files.writeString(badCharacter, "201 60\n" + lines + "1 -2\n");
+        Path duplicatePin = dir.resolve("duplicate.hgr");
+        Files.writeString(duplicatePin, "201 60\n" + lines + "7 7\n");
+
+        for (int threads : THREADS) {
+            HypergraphParser parser = new HypergraphParser(HypergraphParser.Format.HMETIS, threads);
+            IOException character = assertThrows(IOException.class, () -> parser.parse(badCharacter));
+            assertTrue(character.getMessage().contains("unexpected character '-' at byte"),
+                    threads + " threads: " + character.getMessage());
+
+            IOException duplicate = assertThrows(IOException.class, () -> parser.parse(duplicatePin));
+            assertTrue(duplicate.getMessage().contains("Duplicate node 6 in hyperedge 200"),
+                    threads + " threads: " + duplicate.getMessage());
+            assertFalse(duplicate.getMessage().contains("Exception"), duplicate.getMessage());
+        }
+    }
+
+    @Test
+    void binaryRoundTripKeepsGraph() throws IOException {
+        Random random = new Random(9);
+        for (int round = 0; round < 10; round++) {
+            CompactHypergraph graph = TestGraphs.randomGraph(random, 1 + random.nextInt(500), random.nextInt(600), 6);
+            Path file = dir.resolve("g" + round + ".hgb");
+            MappedHypergraph.write(graph, file);
+            try (MappedHypergraph mapped = MappedHypergraph.open(file)) {
+                assertSameGraph(graph, mapped, file.getFileName().toString());
+                assertArrayEquals(new HypergraphTraversal(graph).traversePath(0),
+                        new HypergraphTraversal(mapped).traversePath(0));
+            }
+        }
+    }
+
+    /** hMETIS text with comments, mixed separators, optional weights and random line endings. */
+    private static String toHmetis(HypergraphView graph, Random random) {
+        boolean edgeWeights = random.nextBoolean(), nodeWeights = random.nextBoolean();
+        String newline = random.nextBoolean() ? "\n" : "\r\n";
+        StringBuilder text = new StringBuilder("% comment line\n");
+        text.append(graph.getNumEdges()).append(' ').append(graph.getNumNodes());
+        if (edgeWeights || nodeWeights) {
+            text.append(' ').append((nodeWeights ? 10 : 0) + (edgeWeights ? 1 : 0));
+        }
+        text.append(newline);
+        appendEdges(text, graph, random, 1, edgeWeights, newline);
+        if (nodeWeights) {
+            for (int v = 0; v < graph.getNumNodes(); v++) {
+                text.append(1 + random.nextInt(100_000)).append(newline);
+            }
+        }
+        return text.toString();
+    }
+
+    private static String toPatoh(CompactHypergraph graph, Random random) {
+        int base = random.nextInt(2);
+        boolean edgeWeights = random.nextBoolean();
+        String newline = random.nextBoolean() ? "\n" : "\r\n";
+        StringBuilder text = new StringBuilder("% comment line\n");
+        text.append(base).append(' ').append(graph.getNumNodes()).append(' ').append(graph.getNumEdges())
+                .append(' ').append(graph.getNumPins());
+        if (edgeWeights) {
+            text.append(" 2");
+        }
+        text.append(newline);
+        appendEdges(text, graph, random, base, edgeWeights, newline);
+        return text.toString();
+    }
+
+    private static void appendEdges(StringBuilder text, HypergraphView graph, Random random, int base,
+                                    boolean edgeWeights, String newline) {
+        for (int e = 0; e < graph.getNumEdges(); e++) {
+            if (random.nextInt(10) == 0) {
+                text.append("% inner comment").append(newline);
+            }
+            if (edgeWeights) {
+                text.append(1 + random.nextInt(9)).append(' ');
+            }
+            for (int i = 0; i < graph.getEdgeSize(e); i++) {
+                text.append(graph.getPin(e, i) + base).append(random.nextBoolean() ? " " : "\t ");
+            }
+            text.append(newline);
+        }
+    }
+
+    private static void assertSameGraph(HypergraphView expected, HypergraphView actual, String label) {
+        assertEquals(expected.getNumNodes(), actual.getNumNodes(), label + ": nodes");
+        assertEquals(expected.getNumEdges(), actual.getNumEdges(), label + ": edges");
+        for (int e = 0; e < expected.getNumEdges(); e++) {
+            assertEquals(expected.getEdgeSize(e), actual.getEdgeSize(e), label + ": size of edge " + e);
+            for (int i = 0; i < expected.getEdgeSize(e); i++) {
+                assertEquals(expected.getPin(e, i), actual.getPin(e, i), label + ": pin of edge " + e);
+            }
+        }
+        for (int v = 0; v < expected.getNumNodes(); v++) {
+            assertEquals(expected.getDegree(v), actual.getDegree(v), label + ": degree of node " + v);
+            for (int i = 0; i < expected.getDegree(v); i++) {
+                assertEquals(expected.getIncidentEdge(v, i), actual.getIncidentEdge(v, i), label + ": node " + v);
+            }
+            assertArrayEquals(expected.getNeighbors(v), actual.getNeighbors(v), label + ": neighbors of " + v);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HypergraphTraversalRepairTest {
+    private static final int NODES = 400;
+    private static final int ROUNDS = 20;
+
+    static Stream<Arguments> configurations() {
+        List<NextNodeStrategy> strategies = List.of(NextNodeStrategies.GREEDY, NextNodeStrategies.FIRST_UNVISITED,
+                NextNodeStrategies.DEGREE_ORDERED, NextNodeStrategies.LOOKAHEAD, NextNodeStrategies.random(7));
+        return strategies.stream().flatMap(strategy -> Stream.of(Arguments.of(strategy, 0), Arguments.of(strategy, 100)));
+    }
+
+    @ParameterizedTest(name = "{0}, jump search {1}")
+    @MethodSource("configurations")
+    void repairMatchesFullTraversal(NextNodeStrategy strategy, int jumpSearch) {
+        Random random = new Random(5);
+        Hypergraph graph = new Hypergraph(NODES);
+        for (int i = 0; i + 1 < NODES; i++) {
+            graph.addHyperedge(Set.of(i, i + 1));
+        }
+        for (int i = 0; i < NODES; i++) {
+            graph.addHyperedge(randomPins(random, 2 + random.nextInt(4), NODES));
+        }
+
+        HypergraphTraversal traversal = new HypergraphTraversal(graph.freeze());
+        traversal.setJumpOnStall(jumpSearch);
+        traversal.setNeighborCache(1 << 20); // repair must invalidate cached neighbors of touched nodes
+        int[] path = traversal.traversePath(0, strategy);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            GraphDelta delta = new GraphDelta();
+            graph.recordChanges(delta);
+            mutate(graph, random);
+            graph.recordChanges(null);
+
+            int[] repaired = traversal.repair(graph.freeze(), path, delta, strategy);
+            HypergraphTraversal fresh = new HypergraphTraversal(graph.freeze());
+            fresh.setJumpOnStall(jumpSearch);
+            int[] full = fresh.traversePath(0, strategy);
+
+            assertArrayEquals(full, repaired, "path after round " + round);
+            assertEquals(fresh.getTotalTransitions(), traversal.getTotalTransitions(), "transitions");
+            assertEquals(fresh.getRepeatedTransitions(), traversal.getRepeatedTransitions(), "repeated transitions");
+            path = repaired;
+        }
+    }
+
+    /** Adds nodes and hyperedges and removes random non-chain hyperedges, which may disconnect the graph. */
+    private static void mutate(Hypergraph graph, Random random) {
+        for (int change = 0; change < 3; change++) {
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    int node = graph.addNode();
+                    graph.addHyperedge(Set.of(node, random.nextInt(node)));
+                }
+                case 1 -> {
+                    Hyperedge edge = graph.getHyperedges().get(random.nextInt(graph.getNumHyperedges()));
+                    if (edge.getId() >= NODES - 1) {
+                        graph.removeHyperedge(edge.getId());
+                    }
+                }
+                default -> graph.addHyperedge(randomPins(random, 3, graph.getNumNodes()));
+            }
+        }
+    }
+
+    private static Set<Integer> randomPins(Random random, int count, int numNodes) {
+        Set<Integer> pins = new HashSet<>();
+        while (pins.size() < count) {
+            pins.add(random.nextInt(numNodes));
+        }
+        return pins;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example;
+
+import java.util.Random;
+
+/** Random graphs shared by the tests. */
+final class TestGraphs {
+    private TestGraphs() {}
+
+    /** Edges of 1 to {@code maxEdgeSize} distinct random pins (fewer if the graph is smaller). */
+    static CompactHypergraph randomGraph(Random random, int numNodes, int numEdges, int maxEdgeSize) {
+        int[] offsets = new int[numEdges + 1];
+        IntArrayList pins = new IntArrayList();
+        for (int e = 0; e < numEdges; e++) {
+            int size = Math.min(numNodes, 1 + random.nextInt(maxEdgeSize));
+            IntHashSet seen = new IntHashSet();
+            while (seen.size() < size) {
+                int pin = random.nextInt(numNodes);
+                if (seen.add(pin)) pins.add(pin);
+            }
+            offsets[e + 1] = pins.size();
+        }
+        return new CompactHypergraph(numNodes, offsets, pins.toArray());
+    }
+}